@@ -23,6 +23,7 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Sets;
 import io.shardingsphere.core.exception.ShardingConfigurationException;
 import io.shardingsphere.core.rule.DataSourceParameter;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -43,6 +44,7 @@ import java.util.Map.Entry;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 public final class DataSourceConfiguration {
     
     private static final String GETTER_PREFIX = "get";
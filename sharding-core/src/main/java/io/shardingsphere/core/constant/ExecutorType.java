@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.constant;
+
+import java.util.Arrays;
+
+/**
+ * Executor type.
+ *
+ * @author agent
+ */
+public enum ExecutorType {
+    
+    THREAD_POOL, WORK_STEALING;
+    
+    /**
+     * Get executor type enum via executor type string, case insensitive.
+     *
+     * @param executorType executor type string
+     * @return executor type enum
+     */
+    public static ExecutorType valueFrom(final String executorType) {
+        for (ExecutorType each : ExecutorType.values()) {
+            if (each.name().equalsIgnoreCase(executorType.trim())) {
+                return each;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Can not support executor type [%s], supported executor types are %s.", executorType, Arrays.toString(ExecutorType.values())));
+    }
+}
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.core.constant.properties;
 
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -65,8 +66,191 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Worker thread pool type.
+     *
+     * <p>
+     * THREAD_POOL:
+     * Use fixed thread pool if executor size is positive, otherwise use cached thread pool.
+     * </p>
+     *
+     * <p>
+     * WORK_STEALING:
+     * Use work stealing pool, parallelism is executor size if it is positive, otherwise is CPU cores * 2.
+     * </p>
+     */
+    EXECUTOR_TYPE("executor.type", ExecutorType.THREAD_POOL.name(), String.class),
+    
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max rows of query results loaded into memory for each data source.
+     *
+     * <p>
+     * Row counts and latencies of query results are recorded for each SQL template, which is actual SQL with literals replaced by placeholders,
+     * at most 4096 SQL templates are recorded and the least recently used ones are evicted.
+     * If recorded rows of one data source exceed this size, streaming query results will be used even if connections exceed max connections size per query,
+     * SQL with more rows or longer latency is streamed first.
+     * Default: 0, means statistics is disabled and no limit.
+     * </p>
+     */
+    MAX_MEMORY_QUERY_RESULT_ROWS("max.memory.query.result.rows", String.valueOf(0), long.class),
+    
+    /**
+     * Max rows held in memory for each memory query result.
+     *
+     * <p>
+     * Rows exceeding this size are spilled to local temporary file instead of loading into memory, and read back after rows in memory.
+     * Default: 65536, 0 means no limit.
+     * </p>
+     */
+    MAX_MEMORY_ROWS_PER_QUERY_RESULT("max.memory.rows.per.query.result", String.valueOf(65536), int.class),
+    
+    /**
+     * Max groups held in memory when merging group by results which cannot be merged by stream, also max distinct values held in memory when merging unsorted distinct results.
+     *
+     * <p>
+     * If groups exceed this size, rows of new groups will be spilled to local temporary files and merged back by order.
+     * If distinct values exceed this size, rows of new distinct values will be spilled to local temporary files and deduplicated by partitions.
+     * Default: 0, means no limit.
+     * </p>
+     */
+    MAX_MEMORY_GROUP_BY_ROWS("max.memory.group.by.rows", String.valueOf(0), long.class),
+    
+    /**
+     * Max rows read ahead for each streaming query result.
+     *
+     * <p>
+     * Rows of streaming query results will be fetched by executor threads into bounded buffer while merging.
+     * Default: 0, means disabled.
+     * </p>
+     */
+    STREAM_READ_AHEAD_ROWS("stream.read.ahead.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or disable to commit and rollback connections of local transaction in parallel.
+     *
+     * <p>
+     * Connections of local transaction are committed or rolled back by executor threads concurrently, exceptions are thrown after all connections finished.
+     * Default: false
+     * </p>
+     */
+    PARALLEL_COMMIT_ENABLED("parallel.commit.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Interval of local transactions to log latency histogram.
+     *
+     * <p>
+     * Count and percentiles of commit and rollback latency are logged once every this number of local transactions.
+     * Default: 0, means disabled.
+     * </p>
+     */
+    TRANSACTION_LATENCY_LOG_INTERVAL("transaction.latency.log.interval", String.valueOf(0), int.class),
+    
+    /**
+     * Max concurrent executions of each data source.
+     *
+     * <p>
+     * Executions exceed this size will wait, slow data source cannot exhaust worker threads shared with other data sources.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MAX_CONCURRENT_EXECUTIONS_PER_DATASOURCE("max.concurrent.executions.per.datasource", String.valueOf(0), int.class),
+    
+    /**
+     * Max waiting executions of each data source.
+     *
+     * <p>
+     * Executions exceed this size will fail fast when data source is saturated.
+     * Default: 0, means fail fast without waiting.
+     * </p>
+     */
+    MAX_WAITING_EXECUTIONS_PER_DATASOURCE("max.waiting.executions.per.datasource", String.valueOf(0), int.class),
+    
+    /**
+     * Waiting timeout milliseconds of execution when data source is saturated.
+     *
+     * <p>
+     * Default: 1000.
+     * </p>
+     */
+    EXECUTION_WAITING_TIMEOUT_MILLISECONDS("execution.waiting.timeout.milliseconds", String.valueOf(1000), long.class),
+    
+    /**
+     * Max connections size of each data source, should be same with max pool size of data source.
+     *
+     * <p>
+     * Every acquisition reserves all connections it needs of one data source at once and acquires them concurrently within this size,
+     * acquisition which already holds connections of the data source fails instead of waiting if connections are not available.
+     * Sharding-Proxy uses maximum pool size of data source parameter instead.
+     * Default: 0, means unknown, bulk acquisitions of same data source are serialized.
+     * </p>
+     */
+    MAX_CONNECTIONS_SIZE_PER_DATASOURCE("max.connections.size.per.datasource", String.valueOf(0), int.class),
+    
+    /**
+     * Timeout milliseconds of reserving connections of data source.
+     *
+     * <p>
+     * Default: 30000.
+     * </p>
+     */
+    CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS("connection.reservation.timeout.milliseconds", String.valueOf(30000), long.class),
+    
+    /**
+     * Max size of parsing result cache for each logic schema.
+     *
+     * <p>
+     * Least recently used parsing results will be evicted when reach this size.
+     * Default: 65535.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_SIZE("parsing.result.cache.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Max size of route result cache for prepared statement.
+     *
+     * <p>
+     * Route units of same logic SQL and same sharding parameters will be reused, only parameters will be bound again.
+     * Do not enable it if sharding algorithms are not deterministic.
+     * Default: 0, means disabled.
+     * </p>
+     */
+    ROUTE_RESULT_CACHE_SIZE("route.result.cache.size", String.valueOf(0), long.class),
+    
+    /**
+     * Enable or Disable to parameterize SQL of statement.
+     *
+     * <p>
+     * Literals of statement SQL will be replaced with placeholders before parsing,
+     * SQLs which only different with literals can share same parsing result in cache.
+     * Default: false
+     * </p>
+     */
+    STATEMENT_PARAMETERIZED_ENABLED("statement.parameterized.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Directory of table meta data snapshot.
+     *
+     * <p>
+     * Table meta data are loaded from snapshot file in this directory when startup, only one sampled actual table of each sharding table is verified.
+     * All actual tables are loaded and saved into snapshot if snapshot is absent, expired or not verified, snapshot is invalidated after DDL executed.
+     * Default: empty, means disabled.
+     * </p>
+     */
+    TABLE_META_DATA_SNAPSHOT_DIRECTORY("table.meta.data.snapshot.directory", "", String.class),
+    
+    /**
+     * Enable or disable to load table meta data of default data source lazily.
+     *
+     * <p>
+     * Tables of default data source are not loaded when startup, table meta data will be loaded at first access.
+     * Concurrent loadings of same table are merged, tables not exist are cached for one minute.
+     * Default: false
+     * </p>
+     */
+    DEFAULT_TABLE_META_DATA_LAZY_LOADED("default.table.meta.data.lazy.loaded", String.valueOf(Boolean.FALSE), boolean.class),
+    
     PROXY_TRANSACTION_ENABLED("proxy.transaction.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
     /**
@@ -95,7 +279,39 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
-    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class);
+    PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
+    
+    /**
+     * Max pending rows of each query result received by backend netty client.
+     *
+     * <p>
+     * Backend channel stops reading when pending rows reach this size, and resumes when half of them are merged.
+     * Default: 1024, 0 means no limit.
+     * </p>
+     */
+    PROXY_BACKEND_MAX_PENDING_ROWS("proxy.backend.max.pending.rows", String.valueOf(1024), int.class),
+    
+    /**
+     * Rows written to client between two flushes.
+     *
+     * <p>
+     * Rows are also flushed when client channel becomes unwritable and when result set is finished.
+     * Default: 128.
+     * </p>
+     */
+    PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
+    
+    /**
+     * Max worker threads shared by client channels to execute commands.
+     *
+     * <p>
+     * Channel is bound to one worker while it has pending commands or transaction in progress,
+     * channels wait in order for worker to be unbound when all workers are bound.
+     * Workers are created on demand and kept until proxy is shutdown.
+     * Default: 1024.
+     * </p>
+     */
+    PROXY_FRONTEND_MAX_CHANNEL_WORKERS("proxy.frontend.max.channel.workers", String.valueOf(1024), int.class);
     
     private final String key;
     
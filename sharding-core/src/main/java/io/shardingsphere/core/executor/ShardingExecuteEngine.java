@@ -18,8 +18,10 @@
 package io.shardingsphere.core.executor;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.exception.ShardingException;
 import io.shardingsphere.core.util.ListeningExecutorServiceUtil;
 import java.sql.SQLException;
@@ -27,7 +29,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -43,7 +44,11 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     private final ListeningExecutorService executorService;
     
     public ShardingExecuteEngine(final int executorSize) {
-        executorService = ListeningExecutorServiceUtil.createAndGet(executorSize);
+        this(executorSize, ExecutorType.THREAD_POOL);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final ExecutorType executorType) {
+        executorService = ListeningExecutorServiceUtil.createAndGet(executorSize, executorType);
     }
     
     /**
@@ -101,14 +106,12 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     }
     
     private <O> List<O> getResults(final O firstResult, final Collection<ListenableFuture<O>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>();
+        List<O> result = new ArrayList<>(restFutures.size() + 1);
         result.add(firstResult);
-        for (ListenableFuture<O> each : restFutures) {
-            try {
-                result.add(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
-            }
+        try {
+            result.addAll(Futures.allAsList(restFutures).get());
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwException(ex);
         }
         return result;
     }
@@ -150,7 +153,7 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
+        Collection<ListenableFuture<Collection<O>>> result = new ArrayList<>(inputGroups.size());
         for (ShardingExecuteGroup<I> each : inputGroups) {
             result.add(asyncGroupExecute(each, callback));
         }
@@ -173,14 +176,13 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>();
-        result.addAll(firstResults);
-        for (ListenableFuture<Collection<O>> each : restFutures) {
-            try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
+        List<O> result = new ArrayList<>(firstResults);
+        try {
+            for (Collection<O> each : Futures.allAsList(restFutures).get()) {
+                result.addAll(each);
             }
+        } catch (final InterruptedException | ExecutionException ex) {
+            return throwException(ex);
         }
         return result;
     }
@@ -192,6 +194,15 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         throw new ShardingException(ex);
     }
     
+    /**
+     * Execute task asynchronously.
+     *
+     * @param task task to be executed
+     */
+    public void asyncExecute(final Runnable task) {
+        executorService.execute(task);
+    }
+    
     @Override
     public void close() {
         ListeningExecutorServiceUtil.close(executorService);
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.bulkhead;
+
+import lombok.Getter;
+
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulkhead of one data source.
+ *
+ * @author agent
+ */
+public final class DataSourceBulkhead {
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final int maxConcurrency;
+    
+    private final int maxWaiting;
+    
+    private final long waitingTimeoutMilliseconds;
+    
+    private final Semaphore semaphore;
+    
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    public DataSourceBulkhead(final String dataSourceName, final int maxConcurrency, final int maxWaiting, final long waitingTimeoutMilliseconds) {
+        this.dataSourceName = dataSourceName;
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+        this.waitingTimeoutMilliseconds = waitingTimeoutMilliseconds;
+        semaphore = new Semaphore(maxConcurrency, true);
+    }
+    
+    /**
+     * Acquire permit to execute on data source.
+     *
+     * @throws SQLException SQL exception if data source is saturated or waiting timeout
+     */
+    public void acquire() throws SQLException {
+        acquire(1);
+    }
+    
+    /**
+     * Acquire permits to execute on data source all or nothing.
+     *
+     * @param permits count of permits
+     * @throws SQLException SQL exception if data source is saturated or waiting timeout
+     */
+    public void acquire(final int permits) throws SQLException {
+        if (semaphore.tryAcquire(permits)) {
+            return;
+        }
+        if (waitingCount.incrementAndGet() > maxWaiting) {
+            waitingCount.decrementAndGet();
+            throw reject("max waiting executions reached");
+        }
+        try {
+            if (!semaphore.tryAcquire(permits, waitingTimeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw reject("waiting timeout");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } finally {
+            waitingCount.decrementAndGet();
+        }
+    }
+    
+    private SQLException reject(final String reason) {
+        rejectedCount.incrementAndGet();
+        return new SQLException(String.format("Execution on data source '%s' is rejected, %s, max concurrent executions is %d.", dataSourceName, reason, maxConcurrency));
+    }
+    
+    /**
+     * Release permit.
+     */
+    public void release() {
+        release(1);
+    }
+    
+    /**
+     * Release permits.
+     *
+     * @param permits count of permits
+     */
+    public void release(final int permits) {
+        semaphore.release(permits);
+    }
+    
+    /**
+     * Get count of active executions.
+     *
+     * @return count of active executions
+     */
+    public int getActiveCount() {
+        return maxConcurrency - semaphore.availablePermits();
+    }
+    
+    /**
+     * Get count of waiting executions.
+     *
+     * @return count of waiting executions
+     */
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+    
+    /**
+     * Get count of rejected executions.
+     *
+     * @return count of rejected executions
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
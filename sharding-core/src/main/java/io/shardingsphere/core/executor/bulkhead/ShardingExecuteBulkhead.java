@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.bulkhead;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sharding execute bulkhead.
+ *
+ * <p>
+ * Limit concurrent executions of each data source, one slow data source cannot exhaust executor threads which shared by other data sources.
+ * Bulkhead is disabled if max concurrent executions is zero.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ShardingExecuteBulkhead {
+    
+    private final int maxConcurrency;
+    
+    private final int maxWaiting;
+    
+    private final long waitingTimeoutMilliseconds;
+    
+    private final ConcurrentMap<String, DataSourceBulkhead> dataSourceBulkheads = new ConcurrentHashMap<>();
+    
+    public ShardingExecuteBulkhead(final int maxConcurrency, final int maxWaiting, final long waitingTimeoutMilliseconds) {
+        Preconditions.checkArgument(maxConcurrency >= 0, "Max concurrent executions per data source can not be negative.");
+        Preconditions.checkArgument(maxWaiting >= 0, "Max waiting executions per data source can not be negative.");
+        Preconditions.checkArgument(waitingTimeoutMilliseconds >= 0, "Execution waiting timeout can not be negative.");
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaiting = maxWaiting;
+        this.waitingTimeoutMilliseconds = waitingTimeoutMilliseconds;
+    }
+    
+    /**
+     * Judge bulkhead is enabled or not.
+     *
+     * @return bulkhead is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxConcurrency > 0;
+    }
+    
+    /**
+     * Acquire permit to execute on data source.
+     *
+     * @param dataSourceName data source name
+     * @throws SQLException SQL exception if data source is saturated or waiting timeout
+     */
+    public void acquire(final String dataSourceName) throws SQLException {
+        acquire(dataSourceName, 1);
+    }
+    
+    /**
+     * Acquire permits to execute on data source all or nothing.
+     *
+     * <p>
+     * Permits more than max concurrent executions are reduced to max concurrent executions,
+     * caller should not execute more than acquired permits on data source concurrently.
+     * </p>
+     *
+     * @param dataSourceName data source name
+     * @param permits count of permits
+     * @return count of acquired permits
+     * @throws SQLException SQL exception if data source is saturated or waiting timeout
+     */
+    public int acquire(final String dataSourceName, final int permits) throws SQLException {
+        if (!isEnabled()) {
+            return 0;
+        }
+        int result = Math.min(permits, maxConcurrency);
+        getDataSourceBulkhead(dataSourceName).acquire(result);
+        return result;
+    }
+    
+    /**
+     * Release permit of data source.
+     *
+     * @param dataSourceName data source name
+     */
+    public void release(final String dataSourceName) {
+        release(dataSourceName, 1);
+    }
+    
+    /**
+     * Release permits of data source.
+     *
+     * @param dataSourceName data source name
+     * @param permits count of permits
+     */
+    public void release(final String dataSourceName, final int permits) {
+        if (isEnabled() && permits > 0) {
+            getDataSourceBulkhead(dataSourceName).release(permits);
+        }
+    }
+    
+    /**
+     * Find bulkhead of data source.
+     *
+     * @param dataSourceName data source name
+     * @return bulkhead of data source
+     */
+    public Optional<DataSourceBulkhead> findDataSourceBulkhead(final String dataSourceName) {
+        return Optional.fromNullable(dataSourceBulkheads.get(dataSourceName));
+    }
+    
+    private DataSourceBulkhead getDataSourceBulkhead(final String dataSourceName) {
+        DataSourceBulkhead result = dataSourceBulkheads.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead(dataSourceName, maxConcurrency, maxWaiting, waitingTimeoutMilliseconds);
+        result = dataSourceBulkheads.putIfAbsent(dataSourceName, dataSourceBulkhead);
+        return null == result ? dataSourceBulkhead : result;
+    }
+}
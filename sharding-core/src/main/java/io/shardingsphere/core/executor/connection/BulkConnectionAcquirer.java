@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.connection;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bulk connection acquirer.
+ *
+ * <p>
+ * Acquire connections of one data source all or nothing, every acquisition of pooled data source should be acquired by it to share same reservation.
+ * Acquisitions of one data source run concurrently without global monitor if max connections size of data source is known.
+ * </p>
+ *
+ * @author agent
+ */
+public final class BulkConnectionAcquirer {
+    
+    private final Map<String, Integer> maxConnectionsSizes;
+    
+    private final long timeoutMilliseconds;
+    
+    private final ConcurrentMap<String, DataSourceConnectionReservation> dataSourceReservations = new ConcurrentHashMap<>();
+    
+    public BulkConnectionAcquirer(final Map<String, Integer> maxConnectionsSizes, final long timeoutMilliseconds) {
+        Preconditions.checkArgument(timeoutMilliseconds >= 0, "Connection reservation timeout can not be negative.");
+        for (Integer each : maxConnectionsSizes.values()) {
+            Preconditions.checkArgument(each >= 0, "Max connections size per data source can not be negative.");
+        }
+        this.maxConnectionsSizes = new HashMap<>(maxConnectionsSizes);
+        this.timeoutMilliseconds = timeoutMilliseconds;
+    }
+    
+    public BulkConnectionAcquirer(final Map<String, Integer> maxConnectionsSizes, final long timeoutMilliseconds,
+                                  final BulkConnectionAcquirer originalAcquirer, final Collection<String> changedDataSourceNames) {
+        this(maxConnectionsSizes, timeoutMilliseconds);
+        if (timeoutMilliseconds != originalAcquirer.timeoutMilliseconds) {
+            return;
+        }
+        for (Entry<String, DataSourceConnectionReservation> entry : originalAcquirer.dataSourceReservations.entrySet()) {
+            Integer maxConnectionsSize = maxConnectionsSizes.get(entry.getKey());
+            if (!changedDataSourceNames.contains(entry.getKey()) && (null == maxConnectionsSize ? 0 : maxConnectionsSize) == entry.getValue().getMaxConnectionsSize()) {
+                dataSourceReservations.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * Acquire connections of data source all or nothing.
+     *
+     * @param dataSourceName data source name
+     * @param dataSource data source
+     * @param connectionSize size of connections to be acquired
+     * @return connections
+     * @throws SQLException SQL exception if reservation timeout or can not get all connections
+     */
+    public List<Connection> acquire(final String dataSourceName, final DataSource dataSource, final int connectionSize) throws SQLException {
+        return acquire(dataSourceName, dataSource, connectionSize, false);
+    }
+    
+    /**
+     * Acquire connections of data source all or nothing.
+     *
+     * <p>
+     * Caller which already holds connections of data source never waits for reservation, to avoid holding part of connections and waiting for others.
+     * </p>
+     *
+     * @param dataSourceName data source name
+     * @param dataSource data source
+     * @param connectionSize size of connections to be acquired
+     * @param holding caller already holds connections of data source or not
+     * @return connections
+     * @throws SQLException SQL exception if reservation timeout, reservation contended while holding or can not get all connections
+     */
+    public List<Connection> acquire(final String dataSourceName, final DataSource dataSource, final int connectionSize, final boolean holding) throws SQLException {
+        return getDataSourceReservation(dataSourceName).acquire(dataSource, connectionSize, holding);
+    }
+    
+    /**
+     * Find connection reservation of data source.
+     *
+     * @param dataSourceName data source name
+     * @return connection reservation of data source
+     */
+    public Optional<DataSourceConnectionReservation> findDataSourceReservation(final String dataSourceName) {
+        return Optional.fromNullable(dataSourceReservations.get(dataSourceName));
+    }
+    
+    private DataSourceConnectionReservation getDataSourceReservation(final String dataSourceName) {
+        DataSourceConnectionReservation result = dataSourceReservations.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        Integer maxConnectionsSize = maxConnectionsSizes.get(dataSourceName);
+        DataSourceConnectionReservation dataSourceReservation = new DataSourceConnectionReservation(dataSourceName, null == maxConnectionsSize ? 0 : maxConnectionsSize, timeoutMilliseconds);
+        result = dataSourceReservations.putIfAbsent(dataSourceName, dataSourceReservation);
+        return null == result ? dataSourceReservation : result;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.connection;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection reservation of one data source.
+ *
+ * <p>
+ * Every acquisition reserves permits of all connections it needs at once before getting connections from data source,
+ * and each connection holds its permit until it is closed. Connections held by acquisitions never exceed max connections size,
+ * so acquisitions can not hold part of connections and wait for each other.
+ * Acquisitions which already hold connections of data source never wait for permits, they fail immediately if permits are not available.
+ * Bulk acquisitions are serialized by data source if max connections size is zero.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DataSourceConnectionReservation {
+    
+    @Getter
+    private final String dataSourceName;
+    
+    @Getter
+    private final int maxConnectionsSize;
+    
+    private final long timeoutMilliseconds;
+    
+    private final Semaphore semaphore;
+    
+    private final AtomicLong acquiredCount = new AtomicLong();
+    
+    private final AtomicLong contendedCount = new AtomicLong();
+    
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    private final AtomicLong waitingNanos = new AtomicLong();
+    
+    public DataSourceConnectionReservation(final String dataSourceName, final int maxConnectionsSize, final long timeoutMilliseconds) {
+        this.dataSourceName = dataSourceName;
+        this.maxConnectionsSize = maxConnectionsSize;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        semaphore = new Semaphore(maxConnectionsSize, true);
+    }
+    
+    /**
+     * Acquire connections all or nothing.
+     *
+     * @param dataSource data source
+     * @param connectionSize size of connections to be acquired
+     * @return connections
+     * @throws SQLException SQL exception if reservation timeout or can not get all connections
+     */
+    public List<Connection> acquire(final DataSource dataSource, final int connectionSize) throws SQLException {
+        return acquire(dataSource, connectionSize, false);
+    }
+    
+    /**
+     * Acquire connections all or nothing.
+     *
+     * @param dataSource data source
+     * @param connectionSize size of connections to be acquired
+     * @param holding caller already holds connections of data source or not
+     * @return connections
+     * @throws SQLException SQL exception if reservation timeout, reservation contended while holding or can not get all connections
+     */
+    public List<Connection> acquire(final DataSource dataSource, final int connectionSize, final boolean holding) throws SQLException {
+        if (0 == maxConnectionsSize) {
+            return 1 == connectionSize ? createConnections(dataSource, connectionSize) : acquireSerially(dataSource, connectionSize);
+        }
+        reserve(connectionSize, holding);
+        List<Connection> connections;
+        try {
+            connections = createConnections(dataSource, connectionSize);
+        } catch (final SQLException ex) {
+            semaphore.release(connectionSize);
+            throw ex;
+        }
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (Connection each : connections) {
+            result.add(ReservedConnectionInvocationHandler.newInstance(each, semaphore));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    private List<Connection> acquireSerially(final DataSource dataSource, final int connectionSize) throws SQLException {
+        long startNanos = System.nanoTime();
+        synchronized (dataSource) {
+            waitingNanos.addAndGet(System.nanoTime() - startNanos);
+            acquiredCount.incrementAndGet();
+            return createConnections(dataSource, connectionSize);
+        }
+    }
+    
+    private void reserve(final int connectionSize, final boolean holding) throws SQLException {
+        if (connectionSize > maxConnectionsSize) {
+            failedCount.incrementAndGet();
+            throw new SQLException(String.format("Can not reserve %d connections of data source '%s', max connections size is %d.", connectionSize, dataSourceName, maxConnectionsSize));
+        }
+        if (semaphore.tryAcquire(connectionSize)) {
+            acquiredCount.incrementAndGet();
+            return;
+        }
+        contendedCount.incrementAndGet();
+        if (holding) {
+            failedCount.incrementAndGet();
+            throw new SQLException(String.format("Can not reserve %d connections of data source '%s' while holding its connections, max connections size is %d.",
+                    connectionSize, dataSourceName, maxConnectionsSize));
+        }
+        long startNanos = System.nanoTime();
+        try {
+            if (!semaphore.tryAcquire(connectionSize, timeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                failedCount.incrementAndGet();
+                throw new SQLException(String.format("Reserve %d connections of data source '%s' timeout, max connections size is %d.", connectionSize, dataSourceName, maxConnectionsSize));
+            }
+            acquiredCount.incrementAndGet();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failedCount.incrementAndGet();
+            throw new SQLException(ex);
+        } finally {
+            waitingNanos.addAndGet(System.nanoTime() - startNanos);
+        }
+    }
+    
+    private List<Connection> createConnections(final DataSource dataSource, final int connectionSize) throws SQLException {
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (int i = 0; i < connectionSize; i++) {
+            try {
+                result.add(dataSource.getConnection());
+            } catch (final SQLException ex) {
+                failedCount.incrementAndGet();
+                close(result);
+                throw new SQLException(String.format("Could't get %d connections one time, partition succeed connection(%d) have released!", connectionSize, result.size()), ex);
+            }
+        }
+        return result;
+    }
+    
+    private void close(final List<Connection> connections) {
+        for (Connection each : connections) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    /**
+     * Get count of connections reserved and not closed yet.
+     *
+     * @return count of connections reserved and not closed yet
+     */
+    public int getReservedCount() {
+        return maxConnectionsSize - semaphore.availablePermits();
+    }
+    
+    /**
+     * Get count of succeed reservations.
+     *
+     * @return count of succeed reservations
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.get();
+    }
+    
+    /**
+     * Get count of reservations which have to wait for other acquisitions.
+     *
+     * @return count of contended reservations
+     */
+    public long getContendedCount() {
+        return contendedCount.get();
+    }
+    
+    /**
+     * Get count of failed acquisitions.
+     *
+     * @return count of failed acquisitions
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+    
+    /**
+     * Get total waiting nanoseconds of acquisitions.
+     *
+     * @return total waiting nanoseconds
+     */
+    public long getWaitingNanos() {
+        return waitingNanos.get();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.connection;
+
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Invocation handler of connection which holds one reservation permit until closed.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+final class ReservedConnectionInvocationHandler implements InvocationHandler {
+    
+    private final Connection connection;
+    
+    private final Semaphore semaphore;
+    
+    private final AtomicBoolean released = new AtomicBoolean();
+    
+    /**
+     * Create connection which releases reservation permit when closed.
+     *
+     * @param connection connection
+     * @param semaphore semaphore which reservation permit belongs to
+     * @return reserved connection
+     */
+    static Connection newInstance(final Connection connection, final Semaphore semaphore) {
+        return (Connection) Proxy.newProxyInstance(ReservedConnectionInvocationHandler.class.getClassLoader(), new Class<?>[] {Connection.class}, new ReservedConnectionInvocationHandler(connection, semaphore));
+    }
+    
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if ("close".equals(method.getName()) && null == args) {
+            try {
+                connection.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+            return null;
+        }
+        if ("equals".equals(method.getName()) && null != args && 1 == args.length) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName()) && null == args) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(connection, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -20,13 +20,21 @@ package io.shardingsphere.core.executor.sql.execute;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
+import io.shardingsphere.core.executor.bulkhead.ShardingExecuteBulkhead;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 
 /**
  * SQL execute template.
@@ -41,6 +49,12 @@ public final class SQLExecuteTemplate {
     
     private final ShardingExecuteEngine executeEngine;
     
+    private final ShardingExecuteBulkhead executeBulkhead;
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine) {
+        this(executeEngine, new ShardingExecuteBulkhead(0, 0, 0L));
+    }
+    
     /**
      * Execute group.
      *
@@ -57,6 +71,12 @@ public final class SQLExecuteTemplate {
     /**
      * Execute group.
      *
+     * <p>
+     * Permits of bulkhead are acquired by calling thread before execute groups submitted to executor,
+     * so threads of executor never wait for saturated data sources.
+     * If groups of one data source exceed acquired permits, groups are executed in batches and each batch never exceeds acquired permits.
+     * </p>
+     *
      * @param sqlExecuteGroups SQL execute groups
      * @param firstCallback first SQL execute callback
      * @param callback SQL execute callback
@@ -67,11 +87,77 @@ public final class SQLExecuteTemplate {
     @SuppressWarnings("unchecked")
     public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        Map<String, Integer> acquiredPermits = new LinkedHashMap<>();
         try {
-            return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback);
+            acquirePermits(sqlExecuteGroups, acquiredPermits);
+            return executeBatches(sqlExecuteGroups, acquiredPermits, firstCallback, callback);
         } catch (final SQLException ex) {
             ExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            releasePermits(acquiredPermits);
+        }
+    }
+    
+    private void acquirePermits(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final Map<String, Integer> acquiredPermits) throws SQLException {
+        if (!executeBulkhead.isEnabled()) {
+            return;
+        }
+        Map<String, Integer> groupCounts = new TreeMap<>();
+        for (ShardingExecuteGroup<? extends StatementExecuteUnit> each : sqlExecuteGroups) {
+            if (each.getInputs().isEmpty()) {
+                continue;
+            }
+            String dataSourceName = getDataSourceName(each);
+            groupCounts.put(dataSourceName, groupCounts.containsKey(dataSourceName) ? groupCounts.get(dataSourceName) + 1 : 1);
+        }
+        for (Entry<String, Integer> entry : groupCounts.entrySet()) {
+            acquiredPermits.put(entry.getKey(), executeBulkhead.acquire(entry.getKey(), entry.getValue()));
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T> List<T> executeBatches(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final Map<String, Integer> acquiredPermits,
+                                       final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        if (!executeBulkhead.isEnabled()) {
+            return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback);
+        }
+        List<T> result = new LinkedList<>();
+        SQLExecuteCallback<T> batchFirstCallback = firstCallback;
+        for (Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> each : getBatches(sqlExecuteGroups, acquiredPermits)) {
+            result.addAll(executeEngine.groupExecute((Collection) each, batchFirstCallback, callback));
+            batchFirstCallback = null;
+        }
+        return result;
+    }
+    
+    private List<Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>>> getBatches(
+            final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final Map<String, Integer> acquiredPermits) {
+        List<Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>>> result = new ArrayList<>();
+        Map<String, Integer> batchedGroupCounts = new HashMap<>();
+        for (ShardingExecuteGroup<? extends StatementExecuteUnit> each : sqlExecuteGroups) {
+            int batchIndex = 0;
+            if (!each.getInputs().isEmpty()) {
+                String dataSourceName = getDataSourceName(each);
+                int batchedGroupCount = batchedGroupCounts.containsKey(dataSourceName) ? batchedGroupCounts.get(dataSourceName) : 0;
+                batchIndex = batchedGroupCount / acquiredPermits.get(dataSourceName);
+                batchedGroupCounts.put(dataSourceName, batchedGroupCount + 1);
+            }
+            while (result.size() <= batchIndex) {
+                result.add(new LinkedList<ShardingExecuteGroup<? extends StatementExecuteUnit>>());
+            }
+            result.get(batchIndex).add(each);
+        }
+        return result;
+    }
+    
+    private String getDataSourceName(final ShardingExecuteGroup<? extends StatementExecuteUnit> sqlExecuteGroup) {
+        return sqlExecuteGroup.getInputs().iterator().next().getRouteUnit().getDataSourceName();
+    }
+    
+    private void releasePermits(final Map<String, Integer> acquiredPermits) {
+        for (Entry<String, Integer> entry : acquiredPermits.entrySet()) {
+            executeBulkhead.release(entry.getKey(), entry.getValue());
         }
     }
 }
@@ -19,24 +19,30 @@ package io.shardingsphere.core.executor.sql.execute.result;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
-import io.shardingsphere.core.executor.sql.execute.row.QueryRow;
+import io.shardingsphere.core.executor.sql.execute.result.column.QueryResultColumn;
+import io.shardingsphere.core.executor.sql.execute.result.column.QueryResultColumnFactory;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.SpillFile;
+import lombok.Getter;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map.Entry;
 
 /**
  * Query result for memory loading.
  *
+ * <p>
+ * Values are stored by columns, integral, floating point and timestamp values are stored in primitive vectors,
+ * string values are dictionary encoded.
+ * Rows exceeding max memory rows are spilled to local temporary file and read back after rows in memory.
+ * </p>
+ *
  * @author zhangliang
  * @author panjuan
  */
@@ -44,13 +50,26 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final Multimap<String, Integer> columnLabelAndIndexMap;
     
-    private final Iterator<QueryRow> resultData;
+    private final int maxMemoryRows;
+    
+    private final QueryResultColumn[] columns;
+    
+    @Getter
+    private int rowCount;
+    
+    private int memoryRowCount;
+    
+    private SpillFile spillFile;
     
-    private QueryRow currentRow;
+    private Object[] spilledRow;
     
-    public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
-        resultData = getResultData(resultSet);
+    private int currentRowIndex = -1;
+    
+    public MemoryQueryResult(final ResultSet resultSet, final int maxMemoryRows) throws SQLException {
+        this.maxMemoryRows = maxMemoryRows;
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        columnLabelAndIndexMap = getMetaData(resultSetMetaData);
+        columns = getResultData(resultSet, resultSetMetaData.getColumnCount());
     }
     
     private Multimap<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
@@ -61,66 +80,113 @@ public final class MemoryQueryResult implements QueryResult {
         return result;
     }
     
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<QueryRow> result = new LinkedList<>();
+    private QueryResultColumn[] getResultData(final ResultSet resultSet, final int columnCount) throws SQLException {
+        QueryResultColumn[] result = new QueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = QueryResultColumnFactory.newInstance();
+        }
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnLabelAndIndexMap.size());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(resultSet.getObject(columnIndex));
+            if (maxMemoryRows > 0 && memoryRowCount >= maxMemoryRows) {
+                spill(resultSet, columnCount);
+            } else {
+                for (int i = 0; i < columnCount; i++) {
+                    Object value = resultSet.getObject(i + 1);
+                    if (!result[i].add(value)) {
+                        result[i] = QueryResultColumnFactory.promote(result[i], value);
+                    }
+                }
+                memoryRowCount++;
             }
-            result.add(new QueryRow(rowData));
+            rowCount++;
+        }
+        return result;
+    }
+    
+    private void spill(final ResultSet resultSet, final int columnCount) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = resultSet.getObject(i + 1);
+        }
+        try {
+            if (null == spillFile) {
+                spillFile = new SpillFile();
+            }
+            spillFile.write(row);
+        } catch (final IOException ex) {
+            closeSpillFile();
+            throw new SQLException(ex);
         }
-        return result.iterator();
     }
     
     @Override
-    public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+    public boolean next() throws SQLException {
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
+        }
+        if (currentRowIndex >= memoryRowCount && null != spillFile) {
+            readSpilledRow();
+        }
+        return currentRowIndex < rowCount;
+    }
+    
+    private void readSpilledRow() throws SQLException {
+        try {
+            spilledRow = spillFile.read();
+        } catch (final IOException ex) {
+            closeSpillFile();
+            throw new SQLException(ex);
         }
-        currentRow = null;
-        return false;
+        if (null == spilledRow) {
+            closeSpillFile();
+        }
+    }
+    
+    private void closeSpillFile() {
+        try {
+            spillFile.close();
+        } catch (final IOException ignored) {
+        }
+        spillFile = null;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getColumnValue(columnIndex);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.getColumnValue(getColumnIndex(columnLabel));
+        return getCurrentValue(getColumnIndex(columnLabel));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(columnIndex);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getColumnValue(getColumnIndex(columnLabel));
+        return getCurrentValue(getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return (InputStream) currentRow.getColumnValue(columnIndex);
+        return (InputStream) getCurrentValue(columnIndex);
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.getColumnValue(getColumnIndex(columnLabel));
+        return (InputStream) getCurrentValue(getColumnIndex(columnLabel));
     }
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
     }
     
     @Override
     public int getColumnCount() {
-        return columnLabelAndIndexMap.size();
+        return columns.length;
     }
     
     @Override
@@ -133,6 +199,10 @@ public final class MemoryQueryResult implements QueryResult {
         throw new SQLException("Column index out of range", "9999");
     }
     
+    private Object getCurrentValue(final int columnIndex) {
+        return currentRowIndex < memoryRowCount ? columns[columnIndex - 1].get(currentRowIndex) : spilledRow[columnIndex - 1];
+    }
+    
     private Integer getColumnIndex(final String columnLabel) {
         return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0);
     }
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Query result for stream loading with read ahead.
+ *
+ * <p>
+ * Rows of result set are fetched by worker of execute engine into bounded buffer while caller is merging,
+ * at most read ahead rows are held in memory for each result set.
+ * Worker returns its thread when buffer is full, and is rescheduled when caller drains buffer to half.
+ * If worker is not started when caller needs rows, caller will fetch rows from result set by itself.
+ * </p>
+ *
+ * <p>
+ * Result set is not thread safe, so owner should use {@link #getResultSet()} instead of original result set,
+ * every invocation of it waits for in-flight fetching of worker, and closing it stops worker before original result set closed.
+ * </p>
+ *
+ * <p>
+ * Worker does not know which getter caller will use, so rows are fetched by {@code getObject} only.
+ * Typed values are converted from those objects: readers from strings or clobs, bytes from blobs,
+ * calendar values by reinterpreting local date time of fetched value in time zone of calendar,
+ * and input streams from bytes, strings, blobs or clobs. Other conversions are left to caller, same as memory query result.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ReadAheadQueryResult implements QueryResult {
+    
+    private static final Object[] END_OF_ROWS = new Object[0];
+    
+    private static final int NOT_STARTED = 0;
+    
+    private static final int READ_AHEAD = 1;
+    
+    private static final int PAUSED = 2;
+    
+    private static final int DIRECT = 3;
+    
+    private static final int CLOSED = 4;
+    
+    private final ResultSet resultSet;
+    
+    private final Multimap<String, Integer> columnLabelAndIndexMap;
+    
+    private final int columnCount;
+    
+    private final BlockingQueue<Object[]> buffer;
+    
+    private final int resumeThreshold;
+    
+    private final ShardingExecuteEngine executeEngine;
+    
+    private final AtomicInteger state = new AtomicInteger(NOT_STARTED);
+    
+    private final Lock fetchLock = new ReentrantLock();
+    
+    private final ResultSet guardedResultSet;
+    
+    private volatile SQLException fetchException;
+    
+    private Object[] pendingRow;
+    
+    private Object[] currentRow;
+    
+    private volatile boolean finished;
+    
+    private boolean wasNull;
+    
+    public ReadAheadQueryResult(final ResultSet resultSet, final int readAheadRows, final ShardingExecuteEngine executeEngine) throws SQLException {
+        this.resultSet = resultSet;
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        columnLabelAndIndexMap = getMetaData(resultSetMetaData);
+        columnCount = resultSetMetaData.getColumnCount();
+        buffer = new ArrayBlockingQueue<>(readAheadRows);
+        resumeThreshold = readAheadRows / 2;
+        this.executeEngine = executeEngine;
+        guardedResultSet = (ResultSet) Proxy.newProxyInstance(ReadAheadQueryResult.class.getClassLoader(), new Class<?>[] {ResultSet.class}, new GuardedResultSetInvocationHandler());
+        try {
+            executeEngine.asyncExecute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    if (state.compareAndSet(NOT_STARTED, READ_AHEAD)) {
+                        readAhead();
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ignored) {
+            state.set(DIRECT);
+        }
+    }
+    
+    private Multimap<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        Multimap<String, Integer> result = HashMultimap.create();
+        for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+            result.put(resultSetMetaData.getColumnLabel(columnIndex), columnIndex);
+        }
+        return result;
+    }
+    
+    private void readAhead() {
+        while (true) {
+            if (null == pendingRow) {
+                pendingRow = fetchRow();
+            }
+            if (buffer.offer(pendingRow)) {
+                if (END_OF_ROWS == pendingRow) {
+                    pendingRow = null;
+                    return;
+                }
+                pendingRow = null;
+                continue;
+            }
+            if (!state.compareAndSet(READ_AHEAD, PAUSED) || 0 == buffer.remainingCapacity() || !state.compareAndSet(PAUSED, READ_AHEAD)) {
+                return;
+            }
+        }
+    }
+    
+    private Object[] fetchRow() {
+        fetchLock.lock();
+        try {
+            if (CLOSED == state.get()) {
+                return END_OF_ROWS;
+            }
+            return resultSet.next() ? readRow() : END_OF_ROWS;
+        } catch (final SQLException ex) {
+            fetchException = ex;
+            return END_OF_ROWS;
+        } catch (final RuntimeException ex) {
+            fetchException = new SQLException(ex);
+            return END_OF_ROWS;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+    
+    private void resumeIfPaused() {
+        if (buffer.size() > resumeThreshold || !state.compareAndSet(PAUSED, READ_AHEAD)) {
+            return;
+        }
+        try {
+            executeEngine.asyncExecute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    readAhead();
+                }
+            });
+        } catch (final RejectedExecutionException ignored) {
+            readAhead();
+        }
+    }
+    
+    private Object[] readRow() throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = resultSet.getObject(i + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Get result set which waits for in-flight fetching of worker when invoked, and stops worker when closed.
+     *
+     * @return guarded result set
+     */
+    public ResultSet getResultSet() {
+        return guardedResultSet;
+    }
+    
+    /**
+     * Stop reading ahead and wait for in-flight fetching of worker finished.
+     *
+     * <p>
+     * Original result set is not closed, rows not read yet are discarded.
+     * </p>
+     */
+    public void close() {
+        if (CLOSED == state.getAndSet(CLOSED)) {
+            return;
+        }
+        fetchLock.lock();
+        try {
+            finished = true;
+            buffer.clear();
+            buffer.offer(END_OF_ROWS);
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (finished) {
+            return false;
+        }
+        currentRow = state.compareAndSet(NOT_STARTED, DIRECT) || DIRECT == state.get() ? nextDirectly() : nextFromBuffer();
+        if (END_OF_ROWS == currentRow) {
+            finished = true;
+            currentRow = null;
+            return false;
+        }
+        return true;
+    }
+    
+    private Object[] nextDirectly() throws SQLException {
+        return resultSet.next() ? readRow() : END_OF_ROWS;
+    }
+    
+    private Object[] nextFromBuffer() throws SQLException {
+        Object[] result;
+        try {
+            result = buffer.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+        if (END_OF_ROWS == result) {
+            if (null != fetchException) {
+                throw fetchException;
+            }
+            return result;
+        }
+        resumeIfPaused();
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return convertValue(getCurrentValue(columnIndex), type);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return convertValue(getCurrentValue(getColumnIndex(columnLabel)), type);
+    }
+    
+    private Object convertValue(final Object value, final Class<?> type) throws SQLException {
+        if (Reader.class == type && value instanceof String) {
+            return new StringReader((String) value);
+        }
+        if (Reader.class == type && value instanceof Clob) {
+            return ((Clob) value).getCharacterStream();
+        }
+        if (byte[].class == type && value instanceof Blob) {
+            Blob blob = (Blob) value;
+            return blob.getBytes(1L, (int) blob.length());
+        }
+        return value;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return convertCalendarValue(getCurrentValue(columnIndex), type, calendar);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return convertCalendarValue(getCurrentValue(getColumnIndex(columnLabel)), type, calendar);
+    }
+    
+    private Object convertCalendarValue(final Object value, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (Date.class != type && Time.class != type && Timestamp.class != type) {
+            throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+        if (null == value) {
+            return null;
+        }
+        if (!(value instanceof java.util.Date)) {
+            throw new SQLFeatureNotSupportedException(String.format("Unsupported value type: %s for calendar value", value.getClass().getName()));
+        }
+        long time = null == calendar ? ((java.util.Date) value).getTime() : getTimeInCalendar((java.util.Date) value, calendar);
+        if (Date.class == type) {
+            return new Date(time);
+        }
+        if (Time.class == type) {
+            return new Time(time);
+        }
+        Timestamp result = new Timestamp(time);
+        if (value instanceof Timestamp) {
+            result.setNanos(((Timestamp) value).getNanos());
+        }
+        return result;
+    }
+    
+    private long getTimeInCalendar(final java.util.Date value, final Calendar calendar) {
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(value);
+        Calendar result = (Calendar) calendar.clone();
+        result.clear();
+        result.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        result.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        return result.getTimeInMillis();
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getInputStream(getCurrentValue(columnIndex), type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return getInputStream(getCurrentValue(getColumnIndex(columnLabel)), type);
+    }
+    
+    private InputStream getInputStream(final Object value, final String type) throws SQLException {
+        if (!"Ascii".equals(type) && !"Unicode".equals(type) && !"Binary".equals(type)) {
+            throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+        if (null == value || value instanceof InputStream) {
+            return (InputStream) value;
+        }
+        if (value instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) value);
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        if (value instanceof String) {
+            return new ByteArrayInputStream(((String) value).getBytes(getCharset(type)));
+        }
+        if (value instanceof Clob && "Ascii".equals(type)) {
+            return ((Clob) value).getAsciiStream();
+        }
+        throw new SQLFeatureNotSupportedException(String.format("Unsupported value type: %s for %s stream", value.getClass().getName(), type));
+    }
+    
+    private Charset getCharset(final String type) {
+        switch (type) {
+            case "Ascii":
+                return StandardCharsets.US_ASCII;
+            case "Unicode":
+                return StandardCharsets.UTF_16BE;
+            default:
+                return StandardCharsets.UTF_8;
+        }
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        for (Entry<String, Integer> entry : columnLabelAndIndexMap.entries()) {
+            if (columnIndex == entry.getValue()) {
+                return entry.getKey();
+            }
+        }
+        throw new SQLException("Column index out of range", "9999");
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        Object result = null == currentRow ? null : currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    private Integer getColumnIndex(final String columnLabel) {
+        return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0);
+    }
+    
+    private final class GuardedResultSetInvocationHandler implements InvocationHandler {
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("equals".equals(method.getName()) && null != args && 1 == args.length) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(method.getName()) && null == args) {
+                return System.identityHashCode(proxy);
+            }
+            if ("close".equals(method.getName()) && null == args) {
+                ReadAheadQueryResult.this.close();
+            }
+            fetchLock.lock();
+            try {
+                return method.invoke(resultSet, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getTargetException();
+            } finally {
+                fetchLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatistics;
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Query result which records row count and latency to statistics when exhausted.
+ *
+ * <p>
+ * Latency includes execution of SQL and fetching of rows, time spent by caller between fetchings is excluded.
+ * </p>
+ *
+ * @author agent
+ */
+public final class StatisticsQueryResult implements QueryResult {
+    
+    private final QueryResult queryResult;
+    
+    private final String sql;
+    
+    private final QueryResultStatistics queryResultStatistics;
+    
+    private long rowCount;
+    
+    private long latencyNanos;
+    
+    private boolean recorded;
+    
+    public StatisticsQueryResult(final QueryResult queryResult, final String sql, final QueryResultStatistics queryResultStatistics, final long executeNanos) {
+        this.queryResult = queryResult;
+        this.sql = sql;
+        this.queryResultStatistics = queryResultStatistics;
+        latencyNanos = executeNanos;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        long startNanos = System.nanoTime();
+        boolean hasNext = queryResult.next();
+        latencyNanos += System.nanoTime() - startNanos;
+        if (hasNext) {
+            rowCount++;
+            return true;
+        }
+        if (!recorded) {
+            recorded = true;
+            queryResultStatistics.record(sql, rowCount, latencyNanos);
+        }
+        return false;
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return queryResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return queryResult.getValue(columnLabel, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return queryResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return queryResult.getCalendarValue(columnLabel, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return queryResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return queryResult.getInputStream(columnLabel, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return queryResult.wasNull();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column of dictionary encoded string values.
+ *
+ * <p>
+ * Every distinct string is stored only once, rows store codes of strings.
+ * Strings which are not in dictionary are not supported if dictionary is full,
+ * or if distinct strings exceed half of sampled rows, because dictionary costs more memory than object column for high cardinality values.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DictionaryQueryResultColumn extends QueryResultColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private static final int MIN_SAMPLE_SIZE = 1024;
+    
+    private final Map<String, Integer> codes = new HashMap<>();
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private int[] values = new int[0];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return value instanceof String && (codes.containsKey(value) || dictionary.size() < MAX_DICTIONARY_SIZE && !isHighCardinality());
+    }
+    
+    private boolean isHighCardinality() {
+        return getSize() >= MIN_SAMPLE_SIZE && dictionary.size() > getSize() / 2;
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return values.length;
+    }
+    
+    @Override
+    protected void grow(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    protected void set(final int index, final Object value) {
+        Integer code = codes.get(value);
+        if (null == code) {
+            code = dictionary.size();
+            codes.put((String) value, code);
+            dictionary.add((String) value);
+        }
+        values[index] = code;
+    }
+    
+    @Override
+    protected Object doGet(final int index) {
+        return dictionary.get(values[index]);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+/**
+ * Column which only contains null values, type of column is undecided.
+ *
+ * <p>
+ * No value is supported, so only null values are added and the column is promoted by {@code QueryResultColumnFactory} on first non-null value.
+ * </p>
+ *
+ * @author agent
+ */
+public final class NullQueryResultColumn extends QueryResultColumn {
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return false;
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return Integer.MAX_VALUE;
+    }
+    
+    @Override
+    protected void grow(final int capacity) {
+    }
+    
+    @Override
+    protected void set(final int index, final Object value) {
+    }
+    
+    @Override
+    protected Object doGet(final int index) {
+        return null;
+    }
+}
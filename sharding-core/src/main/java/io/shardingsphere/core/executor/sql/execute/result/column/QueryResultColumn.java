@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Column of memory query result.
+ *
+ * <p>
+ * Values of one column are stored in one vector, null values are stored in bitmap.
+ * </p>
+ *
+ * @author agent
+ */
+public abstract class QueryResultColumn {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nullValues = new BitSet();
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value
+     * @return {@code false} if type of value is not supported by this column
+     */
+    public final boolean add(final Object value) {
+        if (null != value && !isSupported(value)) {
+            return false;
+        }
+        if (size == getCapacity()) {
+            grow(0 == size ? INITIAL_CAPACITY : size << 1);
+        }
+        if (null == value) {
+            nullValues.set(size);
+        } else {
+            set(size, value);
+        }
+        size++;
+        return true;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param index row index, start from 0
+     * @return value
+     */
+    public final Object get(final int index) {
+        return nullValues.get(index) ? null : doGet(index);
+    }
+    
+    protected abstract boolean isSupported(Object value);
+    
+    protected abstract int getCapacity();
+    
+    protected abstract void grow(int capacity);
+    
+    /**
+     * Set value.
+     *
+     * <p>
+     * Only invoked with non-null values which are supported by this column.
+     * </p>
+     *
+     * @param index row index, start from 0
+     * @param value value
+     */
+    protected abstract void set(int index, Object value);
+    
+    protected abstract Object doGet(int index);
+}
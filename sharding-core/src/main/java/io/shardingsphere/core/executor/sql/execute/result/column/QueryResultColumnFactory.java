@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * Query result column factory.
+ *
+ * @author agent
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResultColumnFactory {
+    
+    /**
+     * Create new instance of column whose type is undecided.
+     *
+     * @return column
+     */
+    public static QueryResultColumn newInstance() {
+        return new NullQueryResultColumn();
+    }
+    
+    /**
+     * Promote column to support value.
+     *
+     * <p>
+     * Column of undecided type will be promoted to column of value's type, other columns will be promoted to object column.
+     * </p>
+     *
+     * @param column column to be promoted
+     * @param value value which is not supported by column
+     * @return promoted column which contains all values of original column and the value
+     */
+    public static QueryResultColumn promote(final QueryResultColumn column, final Object value) {
+        QueryResultColumn result = column instanceof NullQueryResultColumn ? newInstance(value) : new ObjectQueryResultColumn();
+        for (int i = 0; i < column.getSize(); i++) {
+            result.add(column.get(i));
+        }
+        result.add(value);
+        return result;
+    }
+    
+    private static QueryResultColumn newInstance(final Object value) {
+        if (value instanceof Integer) {
+            return new IntQueryResultColumn();
+        }
+        if (value instanceof Long) {
+            return new LongQueryResultColumn();
+        }
+        if (value instanceof Double) {
+            return new DoubleQueryResultColumn();
+        }
+        if (value instanceof String) {
+            return new DictionaryQueryResultColumn();
+        }
+        if (Timestamp.class == value.getClass()) {
+            return new TimestampQueryResultColumn();
+        }
+        return new ObjectQueryResultColumn();
+    }
+}
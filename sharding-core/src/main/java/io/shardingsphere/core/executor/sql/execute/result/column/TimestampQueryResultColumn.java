@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result.column;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Column of timestamp values.
+ *
+ * @author agent
+ */
+public final class TimestampQueryResultColumn extends QueryResultColumn {
+    
+    private long[] times = new long[0];
+    
+    private int[] nanos = new int[0];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return Timestamp.class == value.getClass();
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return times.length;
+    }
+    
+    @Override
+    protected void grow(final int capacity) {
+        times = Arrays.copyOf(times, capacity);
+        nanos = Arrays.copyOf(nanos, capacity);
+    }
+    
+    @Override
+    protected void set(final int index, final Object value) {
+        times[index] = ((Timestamp) value).getTime();
+        nanos[index] = ((Timestamp) value).getNanos();
+    }
+    
+    @Override
+    protected Object doGet(final int index) {
+        Timestamp result = new Timestamp(times[index]);
+        result.setNanos(nanos[index]);
+        return result;
+    }
+}
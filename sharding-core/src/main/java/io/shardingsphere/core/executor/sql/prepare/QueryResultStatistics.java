@@ -0,0 +1,192 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.shardingsphere.core.routing.SQLUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * Query result statistics.
+ *
+ * <p>
+ * Record row counts and latencies of query results, keyed by SQL template which is actual SQL with literals replaced by placeholders,
+ * so SQL differs in values only share one record, and SQL of different actual tables are recorded separately.
+ * If estimated rows of SQL units on one data source exceed max memory rows, the heaviest SQL units should be executed with streaming query results,
+ * without exceeding max connections size per query. SQL units with same estimated rows are ordered by estimated latency.
+ * Statistics is disabled if max memory rows is zero.
+ * </p>
+ *
+ * @author agent
+ */
+public final class QueryResultStatistics {
+    
+    private static final long MAX_RECORDED_SQL_SIZE = 4096L;
+    
+    private static final int HISTORY_WEIGHT = 3;
+    
+    private final long maxMemoryRows;
+    
+    private final Cache<String, RecordedStatistic> statistics;
+    
+    public QueryResultStatistics(final long maxMemoryRows) {
+        Preconditions.checkArgument(maxMemoryRows >= 0, "Max memory rows of query result can not be negative.");
+        this.maxMemoryRows = maxMemoryRows;
+        statistics = CacheBuilder.newBuilder().maximumSize(0 == maxMemoryRows ? 0L : MAX_RECORDED_SQL_SIZE).concurrencyLevel(Runtime.getRuntime().availableProcessors()).build();
+    }
+    
+    /**
+     * Judge statistics is enabled or not.
+     *
+     * @return statistics is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxMemoryRows > 0;
+    }
+    
+    /**
+     * Record row count and latency of query result.
+     *
+     * @param sql actual SQL
+     * @param rowCount row count of query result
+     * @param latencyNanos nanoseconds spent on executing SQL and fetching rows
+     */
+    public void record(final String sql, final long rowCount, final long latencyNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        String sqlTemplate = getSQLTemplate(sql);
+        RecordedStatistic history = statistics.getIfPresent(sqlTemplate);
+        statistics.put(sqlTemplate, null == history ? new RecordedStatistic(rowCount, latencyNanos)
+                : new RecordedStatistic(getWeightedAverage(history.getRowCount(), rowCount), getWeightedAverage(history.getLatencyNanos(), latencyNanos)));
+    }
+    
+    private long getWeightedAverage(final long history, final long current) {
+        return (history * HISTORY_WEIGHT + current) / (HISTORY_WEIGHT + 1);
+    }
+    
+    /**
+     * Estimate row count of SQL units.
+     *
+     * @param sqlUnits SQL units
+     * @return estimated row count, unknown SQL is regarded as empty
+     */
+    public long estimateRowCount(final Collection<SQLUnit> sqlUnits) {
+        long result = 0L;
+        for (SQLUnit each : sqlUnits) {
+            RecordedStatistic statistic = getStatistic(each);
+            if (null != statistic) {
+                result += statistic.getRowCount();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Estimate latency of SQL units executed one by one.
+     *
+     * @param sqlUnits SQL units
+     * @return estimated latency nanoseconds, unknown SQL is regarded as zero
+     */
+    public long estimateLatencyNanos(final Collection<SQLUnit> sqlUnits) {
+        long result = 0L;
+        for (SQLUnit each : sqlUnits) {
+            RecordedStatistic statistic = getStatistic(each);
+            if (null != statistic) {
+                result += statistic.getLatencyNanos();
+            }
+        }
+        return result;
+    }
+    
+    private RecordedStatistic getStatistic(final SQLUnit sqlUnit) {
+        return isEnabled() ? statistics.getIfPresent(getSQLTemplate(sqlUnit.getSql())) : null;
+    }
+    
+    /**
+     * Judge SQL units should be executed with streaming query results or not.
+     *
+     * @param sqlUnits SQL units of one data source
+     * @return SQL units should be executed with streaming query results or not
+     */
+    public boolean isMemoryExceeded(final Collection<SQLUnit> sqlUnits) {
+        return isEnabled() && estimateRowCount(sqlUnits) > maxMemoryRows;
+    }
+    
+    private String getSQLTemplate(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int index = 0;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\'' == current) {
+                index = skipStringLiteral(sql, index + 1);
+                result.append('?');
+            } else if (Character.isDigit(current) && (0 == index || !isIdentifierChar(sql.charAt(index - 1)))) {
+                index = skipNumberLiteral(sql, index + 1);
+                result.append('?');
+            } else {
+                result.append(current);
+                index++;
+            }
+        }
+        return result.toString();
+    }
+    
+    private int skipStringLiteral(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if ('\\' == current) {
+                result += 2;
+            } else if ('\'' != current) {
+                result++;
+            } else if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                result += 2;
+            } else {
+                return result + 1;
+            }
+        }
+        return sql.length();
+    }
+    
+    private int skipNumberLiteral(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && (Character.isLetterOrDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isIdentifierChar(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RecordedStatistic {
+        
+        private final long rowCount;
+        
+        private final long latencyNanos;
+    }
+}
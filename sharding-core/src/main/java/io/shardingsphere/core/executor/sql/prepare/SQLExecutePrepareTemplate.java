@@ -27,12 +27,17 @@ import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * SQL execute prepare template.
@@ -46,6 +51,12 @@ public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final QueryResultStatistics queryResultStatistics;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, new QueryResultStatistics(0L));
+    }
+    
     /**
      * Get execute unit groups.
      *
@@ -81,9 +92,12 @@ public final class SQLExecutePrepareTemplate {
     
     private List<ShardingExecuteGroup<StatementExecuteUnit>> getSQLExecuteGroups(
             final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
+        List<SQLUnit> streamingSQLUnits = getStreamingSQLUnits(sqlUnits);
+        if (!streamingSQLUnits.isEmpty()) {
+            return getMixedSQLExecuteGroups(dataSourceName, sqlUnits, streamingSQLUnits, callback);
+        }
         List<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(sqlUnits.size() / maxConnectionsSizePerQuery, 1);
-        List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
+        List<List<SQLUnit>> sqlUnitPartitions = partition(sqlUnits, maxConnectionsSizePerQuery);
         ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
         List<Connection> connections = callback.getConnections(connectionMode, dataSourceName, sqlUnitPartitions.size());
         int count = 0;
@@ -93,6 +107,56 @@ public final class SQLExecutePrepareTemplate {
         return result;
     }
     
+    private List<List<SQLUnit>> partition(final List<SQLUnit> sqlUnits, final int connectionsSize) {
+        return Lists.partition(sqlUnits, Math.max((sqlUnits.size() + connectionsSize - 1) / connectionsSize, 1));
+    }
+    
+    private List<SQLUnit> getStreamingSQLUnits(final List<SQLUnit> sqlUnits) {
+        if (maxConnectionsSizePerQuery >= sqlUnits.size() || maxConnectionsSizePerQuery < 2 || !queryResultStatistics.isMemoryExceeded(sqlUnits)) {
+            return Collections.emptyList();
+        }
+        List<SQLUnit> remainingSQLUnits = new ArrayList<>(sqlUnits);
+        Collections.sort(remainingSQLUnits, new Comparator<SQLUnit>() {
+            
+            @Override
+            public int compare(final SQLUnit o1, final SQLUnit o2) {
+                int result = Long.compare(queryResultStatistics.estimateRowCount(Collections.singleton(o2)), queryResultStatistics.estimateRowCount(Collections.singleton(o1)));
+                if (0 != result) {
+                    return result;
+                }
+                return Long.compare(queryResultStatistics.estimateLatencyNanos(Collections.singleton(o2)), queryResultStatistics.estimateLatencyNanos(Collections.singleton(o1)));
+            }
+        });
+        List<SQLUnit> result = new LinkedList<>();
+        while (result.size() < maxConnectionsSizePerQuery - 1 && queryResultStatistics.isMemoryExceeded(remainingSQLUnits)) {
+            result.add(remainingSQLUnits.remove(0));
+        }
+        return result;
+    }
+    
+    private List<ShardingExecuteGroup<StatementExecuteUnit>> getMixedSQLExecuteGroups(
+            final String dataSourceName, final List<SQLUnit> sqlUnits, final List<SQLUnit> streamingSQLUnits, final SQLExecutePrepareCallback callback) throws SQLException {
+        Set<SQLUnit> streamingSQLUnitSet = Collections.newSetFromMap(new IdentityHashMap<SQLUnit, Boolean>(streamingSQLUnits.size()));
+        streamingSQLUnitSet.addAll(streamingSQLUnits);
+        List<SQLUnit> memorySQLUnits = new ArrayList<>(sqlUnits.size() - streamingSQLUnits.size());
+        for (SQLUnit each : sqlUnits) {
+            if (!streamingSQLUnitSet.contains(each)) {
+                memorySQLUnits.add(each);
+            }
+        }
+        List<List<SQLUnit>> memorySQLUnitPartitions = partition(memorySQLUnits, maxConnectionsSizePerQuery - streamingSQLUnits.size());
+        List<Connection> connections = callback.getConnections(ConnectionMode.MEMORY_STRICTLY, dataSourceName, streamingSQLUnits.size() + memorySQLUnitPartitions.size());
+        List<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        int count = 0;
+        for (SQLUnit each : streamingSQLUnits) {
+            result.add(getSQLExecuteGroup(ConnectionMode.MEMORY_STRICTLY, connections.get(count++), dataSourceName, Collections.singletonList(each), callback));
+        }
+        for (List<SQLUnit> each : memorySQLUnitPartitions) {
+            result.add(getSQLExecuteGroup(ConnectionMode.CONNECTION_STRICTLY, connections.get(count++), dataSourceName, each, callback));
+        }
+        return result;
+    }
+    
     private ShardingExecuteGroup<StatementExecuteUnit> getSQLExecuteGroup(final ConnectionMode connectionMode, final Connection connection, 
                                                                           final String dataSourceName, final List<SQLUnit> sqlUnitGroup, final SQLExecutePrepareCallback callback) throws SQLException {
         List<StatementExecuteUnit> result = new LinkedList<>();
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which holds resources must be released when closed.
+ *
+ * @author agent
+ */
+public interface CloseableMergedResult extends MergedResult, AutoCloseable {
+    
+    /**
+     * Close merged result and release resources, it can be closed before all data iterated.
+     *
+     * @throws SQLException SQL Exception
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -17,6 +17,8 @@
 
 package io.shardingsphere.core.merger;
 
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.merger.dal.DALMergeEngine;
 import io.shardingsphere.core.merger.dql.DQLMergeEngine;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -29,6 +31,7 @@ import lombok.NoArgsConstructor;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Result merge engine factory.
@@ -51,8 +54,24 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults,
                                           final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData) throws SQLException {
+        return newInstance(shardingRule, queryResults, sqlStatement, shardingTableMetaData, new ShardingProperties(new Properties()));
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param shardingRule sharding rule
+     * @param queryResults query results
+     * @param sqlStatement SQL statement
+     * @param shardingTableMetaData sharding table meta Data
+     * @param shardingProperties sharding properties
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final ShardingRule shardingRule, final List<QueryResult> queryResults, final SQLStatement sqlStatement,
+                                          final ShardingTableMetaData shardingTableMetaData, final ShardingProperties shardingProperties) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement);
+            return new DQLMergeEngine(queryResults, (SelectStatement) sqlStatement, shardingProperties.<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_GROUP_BY_ROWS));
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dql;
 
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.sql.execute.result.AggregationDistinctQueryResult;
@@ -25,6 +26,7 @@ import io.shardingsphere.core.executor.sql.execute.result.DistinctQueryResult;
 import io.shardingsphere.core.merger.MergeEngine;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.distinct.DistinctDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
@@ -32,14 +34,21 @@ import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMergedResult;
+import io.shardingsphere.core.parsing.parser.constant.DerivedColumn;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import io.shardingsphere.core.util.SQLUtil;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -52,26 +61,52 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final SelectStatement selectStatement;
     
-    private final List<QueryResult> queryResults;
+    private List<QueryResult> queryResults;
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final long maxMemoryGroupByRows;
+    
     public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(queryResults, selectStatement, 0L);
+    }
+    
+    public DQLMergeEngine(final List<QueryResult> queryResults, final SelectStatement selectStatement, final long maxMemoryGroupByRows) throws SQLException {
         this.selectStatement = selectStatement;
-        this.queryResults = getRealQueryResults(queryResults);
+        this.maxMemoryGroupByRows = maxMemoryGroupByRows;
+        this.queryResults = isStreamDistinctCandidate() ? queryResults : getRealQueryResults(queryResults);
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
-    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
+    private boolean isStreamDistinctCandidate() {
+        return selectStatement.getAggregationDistinctSelectItems().isEmpty() && !selectStatement.getDistinctSelectItems().isEmpty()
+                && selectStatement.getGroupByItems().isEmpty() && selectStatement.getAggregationSelectItems().isEmpty();
+    }
+    
+    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) throws SQLException {
         if (!selectStatement.getAggregationDistinctSelectItems().isEmpty()) {
             return getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, selectStatement));
         }
         if (!selectStatement.getDistinctSelectItems().isEmpty()) {
-            return getDividedQueryResults(new DistinctQueryResult(queryResults, new ArrayList<>(selectStatement.getDistinctSelectItems().get(0).getDistinctColumnLabels())));
+            return getDividedQueryResults(new DistinctQueryResult(queryResults, getDistinctColumnLabels(queryResults.get(0))));
         }
         return queryResults;
     }
     
+    private List<String> getDistinctColumnLabels(final QueryResult queryResult) throws SQLException {
+        Collection<String> distinctColumnLabels = selectStatement.getDistinctSelectItems().get(0).getDistinctColumnLabels();
+        if (!distinctColumnLabels.isEmpty()) {
+            return new ArrayList<>(distinctColumnLabels);
+        }
+        List<String> result = new ArrayList<>(queryResult.getColumnCount());
+        for (int i = 1; i <= queryResult.getColumnCount(); i++) {
+            if (!DerivedColumn.isDerivedColumn(queryResult.getColumnLabel(i))) {
+                result.add(queryResult.getColumnLabel(i));
+            }
+        }
+        return result;
+    }
+    
     private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
         return Lists.transform(distinctQueryResult.divide(), new Function<DistinctQueryResult, QueryResult>() {
             @Override
@@ -92,9 +127,58 @@ public final class DQLMergeEngine implements MergeEngine {
     @Override
     public MergedResult merge() throws SQLException {
         selectStatement.setIndexForItems(columnLabelIndexMap);
+        if (isStreamDistinctCandidate()) {
+            return decorate(buildDistinct());
+        }
         return decorate(build());
     }
     
+    private MergedResult buildDistinct() throws SQLException {
+        Optional<Collection<Integer>> distinctColumnIndexes = getDistinctColumnIndexes();
+        if (!distinctColumnIndexes.isPresent()) {
+            queryResults = getRealQueryResults(queryResults);
+            return build();
+        }
+        if (selectStatement.getOrderByItems().isEmpty()) {
+            return new DistinctDecoratorMergedResult(new IteratorStreamMergedResult(queryResults), distinctColumnIndexes.get(), false, queryResults.get(0), maxMemoryGroupByRows);
+        }
+        Set<Integer> orderByColumnIndexes = new HashSet<>(selectStatement.getOrderByItems().size(), 1);
+        for (OrderItem each : selectStatement.getOrderByItems()) {
+            orderByColumnIndexes.add(each.getIndex());
+        }
+        if (orderByColumnIndexes.equals(new HashSet<>(distinctColumnIndexes.get()))) {
+            return new DistinctDecoratorMergedResult(new OrderByStreamMergedResult(queryResults, selectStatement.getOrderByItems()), distinctColumnIndexes.get(), true);
+        }
+        queryResults = getRealQueryResults(queryResults);
+        return build();
+    }
+    
+    private Optional<Collection<Integer>> getDistinctColumnIndexes() {
+        Collection<String> distinctColumnLabels = selectStatement.getDistinctSelectItems().get(0).getDistinctColumnLabels();
+        if (distinctColumnLabels.isEmpty()) {
+            return Optional.of(getSelectedColumnIndexes());
+        }
+        Collection<Integer> result = new LinkedHashSet<>(distinctColumnLabels.size(), 1);
+        for (String each : distinctColumnLabels) {
+            Integer columnIndex = columnLabelIndexMap.get(SQLUtil.getExactlyValue(each));
+            if (null == columnIndex) {
+                return Optional.absent();
+            }
+            result.add(columnIndex);
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<Integer> getSelectedColumnIndexes() {
+        Collection<Integer> result = new HashSet<>(columnLabelIndexMap.size(), 1);
+        for (Entry<String, Integer> entry : columnLabelIndexMap.entrySet()) {
+            if (!DerivedColumn.isDerivedColumn(entry.getKey())) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+    
     private MergedResult build() throws SQLException {
         if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) {
             return getGroupByMergedResult();
@@ -109,7 +193,7 @@ public final class DQLMergeEngine implements MergeEngine {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
             return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
         } else {
-            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+            return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement, maxMemoryGroupByRows);
         }
     }
     
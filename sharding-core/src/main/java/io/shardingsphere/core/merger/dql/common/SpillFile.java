@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Spill file for rows which cannot be held in memory.
+ *
+ * <p>
+ * Rows are written to local temporary file first and read back in the same order after writing finished.
+ * Temporary file will be deleted when closed, or when virtual machine exits if it is not closed.
+ * </p>
+ *
+ * @author agent
+ */
+public final class SpillFile implements Closeable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final File file;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    @Getter
+    private int rowCount;
+    
+    private int readCount;
+    
+    private boolean closed;
+    
+    public SpillFile() throws IOException {
+        file = File.createTempFile("sharding-spill-", ".tmp");
+        file.deleteOnExit();
+        outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row data
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        outputStream.writeObject(row);
+        rowCount++;
+        if (0 == rowCount % RESET_INTERVAL) {
+            outputStream.reset();
+        }
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return row data, {@code null} if all rows have been read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        if (null == inputStream) {
+            outputStream.close();
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        }
+        if (readCount == rowCount) {
+            return null;
+        }
+        readCount++;
+        try {
+            return (Object[]) inputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (null == inputStream) {
+                outputStream.close();
+            } else {
+                inputStream.close();
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
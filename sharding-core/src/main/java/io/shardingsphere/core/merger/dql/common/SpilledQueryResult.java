@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import io.shardingsphere.core.merger.QueryResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result which reads rows from spill file.
+ *
+ * @author agent
+ */
+public final class SpilledQueryResult implements QueryResult {
+    
+    private final SpillFile spillFile;
+    
+    private final List<String> columnLabels;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public SpilledQueryResult(final SpillFile spillFile, final QueryResult metaData) throws SQLException {
+        this.spillFile = spillFile;
+        columnLabels = getColumnLabels(metaData);
+    }
+    
+    private List<String> getColumnLabels(final QueryResult metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<String> result = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            result.add(metaData.getColumnLabel(i));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            currentRow = spillFile.read();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getValue(getColumnIndex(columnLabel), type);
+    }
+    
+    private int getColumnIndex(final String columnLabel) throws SQLException {
+        int result = columnLabels.indexOf(columnLabel);
+        if (-1 == result) {
+            throw new SQLException(String.format("Column label '%s' does not exist", columnLabel), "9999");
+        }
+        return result + 1;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > columnLabels.size()) {
+            throw new SQLException("Column index out of range", "9999");
+        }
+        return columnLabels.get(columnIndex - 1);
+    }
+}
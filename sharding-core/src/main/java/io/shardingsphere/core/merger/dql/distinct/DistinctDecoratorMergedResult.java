@@ -0,0 +1,288 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+package io.shardingsphere.core.merger.dql.distinct;
+
+import io.shardingsphere.core.merger.CloseableMergedResult;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.common.SpillFile;
+import io.shardingsphere.core.merger.dql.common.SpilledQueryResult;
+import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decorator merged result for distinct.
+ *
+ * <p>
+ * If merged result is sorted by all distinct columns, duplicated rows are adjacent and only previous distinct values are kept.
+ * Otherwise distinct values of every returned row are kept in hash set.
+ * Rows with string distinct values are always kept in hash set, because data sources sort strings by collation which may differ from merging order,
+ * duplicated strings such as 'a', 'A', 'a' may be not adjacent for case insensitive collation.
+ * </p>
+ *
+ * <p>
+ * If merged result is not sorted, max memory rows is positive and hash set reaches it, rows of new distinct values are spilled to partitioned local files by hash of distinct values.
+ * Every partition is deduplicated separately after merged result finished, spill files are deleted after all rows read, or when merged result closed.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DistinctDecoratorMergedResult implements CloseableMergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
+    
+    private final MergedResult mergedResult;
+    
+    private final Collection<Integer> distinctColumnIndexes;
+    
+    private final boolean sorted;
+    
+    private final QueryResult metaData;
+    
+    private final long maxMemoryRows;
+    
+    private final Set<List<Object>> returnedDistinctValues = new HashSet<>();
+    
+    private final LinkedList<SpilledPartition> pendingPartitions = new LinkedList<>();
+    
+    private List<Object> previousDistinctValues;
+    
+    private MergedResult currentMergedResult;
+    
+    private SpilledPartition currentPartition;
+    
+    private SpillFile[] partitions;
+    
+    public DistinctDecoratorMergedResult(final MergedResult mergedResult, final Collection<Integer> distinctColumnIndexes, final boolean sorted) {
+        this(mergedResult, distinctColumnIndexes, sorted, null, 0L);
+    }
+    
+    public DistinctDecoratorMergedResult(final MergedResult mergedResult, final Collection<Integer> distinctColumnIndexes, final boolean sorted, final QueryResult metaData, final long maxMemoryRows) {
+        this.mergedResult = mergedResult;
+        this.distinctColumnIndexes = distinctColumnIndexes;
+        this.sorted = sorted;
+        this.metaData = metaData;
+        this.maxMemoryRows = sorted || null == metaData ? 0L : maxMemoryRows;
+        currentMergedResult = mergedResult;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        do {
+            if (nextInCurrentMergedResult()) {
+                return true;
+            }
+        } while (nextPartition());
+        return false;
+    }
+    
+    private boolean nextInCurrentMergedResult() throws SQLException {
+        while (currentMergedResult.next()) {
+            List<Object> distinctValues = getDistinctValues();
+            if (sorted && !containsString(distinctValues)) {
+                if (!distinctValues.equals(previousDistinctValues)) {
+                    previousDistinctValues = distinctValues;
+                    return true;
+                }
+                continue;
+            }
+            if (returnedDistinctValues.contains(distinctValues)) {
+                continue;
+            }
+            if (isMemoryExceeded()) {
+                spill(distinctValues);
+                continue;
+            }
+            returnedDistinctValues.add(distinctValues);
+            return true;
+        }
+        return false;
+    }
+    
+    private List<Object> getDistinctValues() throws SQLException {
+        List<Object> result = new ArrayList<>(distinctColumnIndexes.size());
+        for (int each : distinctColumnIndexes) {
+            result.add(currentMergedResult.getValue(each, Object.class));
+        }
+        return result;
+    }
+    
+    private boolean containsString(final List<Object> distinctValues) {
+        for (Object each : distinctValues) {
+            if (each instanceof String) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isMemoryExceeded() {
+        return maxMemoryRows > 0 && getDepth() < MAX_SPILL_DEPTH && returnedDistinctValues.size() >= maxMemoryRows;
+    }
+    
+    private int getDepth() {
+        return null == currentPartition ? 0 : currentPartition.getDepth();
+    }
+    
+    private void spill(final List<Object> distinctValues) throws SQLException {
+        if (null == partitions) {
+            partitions = new SpillFile[1 << PARTITION_BITS];
+        }
+        int partition = getPartition(distinctValues);
+        Object[] row = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = currentMergedResult.getValue(i + 1, Object.class);
+        }
+        try {
+            if (null == partitions[partition]) {
+                partitions[partition] = new SpillFile();
+            }
+            partitions[partition].write(row);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private int getPartition(final List<Object> distinctValues) {
+        int hash = distinctValues.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return (hash >>> (getDepth() * PARTITION_BITS)) & ((1 << PARTITION_BITS) - 1);
+    }
+    
+    private boolean nextPartition() throws SQLException {
+        if (null != partitions) {
+            for (int i = partitions.length - 1; i >= 0; i--) {
+                if (null != partitions[i]) {
+                    pendingPartitions.addFirst(new SpilledPartition(partitions[i], getDepth() + 1));
+                }
+            }
+            partitions = null;
+        }
+        closeCurrentPartition();
+        if (pendingPartitions.isEmpty()) {
+            return false;
+        }
+        currentPartition = pendingPartitions.removeFirst();
+        returnedDistinctValues.clear();
+        currentMergedResult = new IteratorStreamMergedResult(Collections.<QueryResult>singletonList(new SpilledQueryResult(currentPartition.getSpillFile(), metaData)));
+        return true;
+    }
+    
+    private void closeCurrentPartition() throws SQLException {
+        if (null == currentPartition) {
+            return;
+        }
+        try {
+            currentPartition.getSpillFile().close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            currentPartition = null;
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return currentMergedResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return currentMergedResult.getValue(columnLabel, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return currentMergedResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return currentMergedResult.getCalendarValue(columnLabel, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return currentMergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return currentMergedResult.getInputStream(columnLabel, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return currentMergedResult.wasNull();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        List<SpillFile> spillFiles = new LinkedList<>();
+        if (null != currentPartition) {
+            spillFiles.add(currentPartition.getSpillFile());
+        }
+        for (SpilledPartition each : pendingPartitions) {
+            spillFiles.add(each.getSpillFile());
+        }
+        if (null != partitions) {
+            for (SpillFile each : partitions) {
+                if (null != each) {
+                    spillFiles.add(each);
+                }
+            }
+        }
+        currentPartition = null;
+        pendingPartitions.clear();
+        partitions = null;
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SpilledPartition {
+        
+        private final SpillFile spillFile;
+        
+        private final int depth;
+    }
+}
@@ -20,59 +20,233 @@ package io.shardingsphere.core.merger.dql.groupby;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResult;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.merger.dql.common.SpillFile;
+import io.shardingsphere.core.merger.dql.common.SpilledQueryResult;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
 
 /**
  * Memory merged result for group by.
  *
+ * <p>
+ * If max memory rows is positive and groups held in memory reach it, rows of new groups are spilled to partitioned local files by hash of group by values.
+ * Every partition is aggregated separately, aggregated rows are written to sorted runs and merged back by order.
+ * Spill files are deleted after all rows read, or when merged result closed or failed.
+ * </p>
+ *
+ * <p>
+ * If limit row count is present, only top offset plus row count rows of every aggregation pass are kept by bounded heap instead of sorting all groups.
+ * </p>
+ *
  * @author zhangliang
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult {
+public final class GroupByMemoryMergedResult extends MemoryMergedResult implements CloseableMergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int MAX_SPILL_DEPTH = 3;
     
     private final SelectStatement selectStatement;
     
+    private final long maxMemoryRows;
+    
+    private final int topN;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final Queue<GroupBySortedRun> sortedRuns;
+    
+    private final List<SpillFile> spilledRuns = new LinkedList<>();
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatement selectStatement) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatement, 0L);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap,
+                                     final List<QueryResult> queryResults, final SelectStatement selectStatement, final long maxMemoryRows) throws SQLException {
         super(labelAndIndexMap);
         this.selectStatement = selectStatement;
+        this.maxMemoryRows = maxMemoryRows;
+        topN = getTopN(selectStatement.getLimit());
+        comparator = new GroupByRowComparator(selectStatement);
+        sortedRuns = new PriorityQueue<>();
         memoryResultSetRows = init(queryResults);
     }
     
+    private int getTopN(final Limit limit) {
+        if (null == limit || !limit.isNeedRewriteRowCount() || limit.getRowCountValue() < 0) {
+            return 0;
+        }
+        long result = (long) limit.getOffsetValue() + limit.getRowCountValue();
+        return result > Integer.MAX_VALUE ? 0 : (int) result;
+    }
+    
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+        List<MemoryQueryResultRow> result;
+        try {
+            result = aggregate(queryResults, 0, spilledRuns);
+            if (!spilledRuns.isEmpty()) {
+                initSortedRuns(spilledRuns);
+                return result.iterator();
             }
+        } catch (final SQLException | RuntimeException ex) {
+            closeSpillFilesQuietly(spilledRuns);
+            throw ex;
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
         }
         return result.iterator();
     }
     
+    private List<MemoryQueryResultRow> aggregate(final Collection<QueryResult> queryResults, final int depth, final List<SpillFile> spilledRuns) throws SQLException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        SpillFile[] partitions = null;
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                    if (!dataMap.containsKey(groupByValue) && isMemoryExceeded(dataMap, depth)) {
+                        if (null == partitions) {
+                            partitions = new SpillFile[1 << PARTITION_BITS];
+                        }
+                        spill(each, getPartition(groupByValue, depth), partitions);
+                        continue;
+                    }
+                    initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
+                    aggregate(each, groupByValue, aggregationMap);
+                }
+            }
+            setAggregationValueToMemoryRow(dataMap, aggregationMap);
+            List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap);
+            if (null == partitions) {
+                return result;
+            }
+            spilledRuns.add(createSortedRun(result));
+            dataMap.clear();
+            aggregationMap.clear();
+            result.clear();
+            aggregatePartitions(partitions, queryResults.iterator().next(), depth, spilledRuns);
+            return Collections.emptyList();
+        } finally {
+            if (null != partitions) {
+                closeSpillFilesQuietly(Arrays.asList(partitions));
+            }
+        }
+    }
+    
+    private boolean isMemoryExceeded(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final int depth) {
+        return maxMemoryRows > 0 && depth < MAX_SPILL_DEPTH && dataMap.size() >= maxMemoryRows;
+    }
+    
+    private int getPartition(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return (hash >>> (depth * PARTITION_BITS)) & ((1 << PARTITION_BITS) - 1);
+    }
+    
+    private void spill(final QueryResult queryResult, final int partition, final SpillFile[] partitions) throws SQLException {
+        try {
+            if (null == partitions[partition]) {
+                partitions[partition] = new SpillFile();
+            }
+            partitions[partition].write(new MemoryQueryResultRow(queryResult).getData());
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void aggregatePartitions(final SpillFile[] partitions, final QueryResult metaData, final int depth, final List<SpillFile> spilledRuns) throws SQLException {
+        for (SpillFile each : partitions) {
+            if (null == each) {
+                continue;
+            }
+            List<MemoryQueryResultRow> rows = aggregate(Collections.<QueryResult>singletonList(new SpilledQueryResult(each, metaData)), depth + 1, spilledRuns);
+            closeSpillFile(each);
+            if (!rows.isEmpty()) {
+                spilledRuns.add(createSortedRun(rows));
+            }
+        }
+    }
+    
+    private SpillFile createSortedRun(final List<MemoryQueryResultRow> rows) throws SQLException {
+        try {
+            SpillFile result = new SpillFile();
+            for (MemoryQueryResultRow each : rows) {
+                result.write(each.getData());
+            }
+            return result;
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void initSortedRuns(final List<SpillFile> spilledRuns) throws SQLException {
+        try {
+            for (SpillFile each : spilledRuns) {
+                GroupBySortedRun sortedRun = new GroupBySortedRun(each, comparator);
+                if (sortedRun.next()) {
+                    sortedRuns.offer(sortedRun);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        if (!sortedRuns.isEmpty()) {
+            setCurrentResultSetRow(sortedRuns.peek().getCurrentRow());
+        }
+    }
+    
+    private void closeSpillFile(final SpillFile spillFile) throws SQLException {
+        try {
+            spillFile.close();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void closeSpillFilesQuietly(final Collection<SpillFile> spillFiles) {
+        for (SpillFile each : spillFiles) {
+            if (null == each) {
+                continue;
+            }
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+    
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
                                           final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
         if (!dataMap.containsKey(groupByValue)) {
@@ -91,16 +265,17 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     }
     
     private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
+        Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap = aggregationMap.get(groupByValue);
         for (AggregationSelectItem each : selectStatement.getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (each.getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+                aggregationValues.add(getAggregationValue(queryResult, each));
             } else {
                 for (AggregationSelectItem derived : each.getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnitMap.get(each).merge(aggregationValues);
         }
     }
     
@@ -119,17 +294,59 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatement));
+        List<MemoryQueryResultRow> result = topN > 0 && dataMap.size() > topN ? getTopNRows(dataMap.values()) : new ArrayList<>(dataMap.values());
+        Collections.sort(result, comparator);
         return result;
     }
     
+    private List<MemoryQueryResultRow> getTopNRows(final Collection<MemoryQueryResultRow> rows) {
+        Queue<MemoryQueryResultRow> topNRows = new PriorityQueue<>(topN + 1, Collections.reverseOrder(comparator));
+        for (MemoryQueryResultRow each : rows) {
+            if (topNRows.size() < topN) {
+                topNRows.offer(each);
+            } else if (comparator.compare(each, topNRows.peek()) < 0) {
+                topNRows.poll();
+                topNRows.offer(each);
+            }
+        }
+        return new ArrayList<>(topNRows);
+    }
+    
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
+        if (!sortedRuns.isEmpty()) {
+            return nextSortedRow();
+        }
         if (memoryResultSetRows.hasNext()) {
             setCurrentResultSetRow(memoryResultSetRows.next());
             return true;
         }
         return false;
     }
+    
+    private boolean nextSortedRow() throws SQLException {
+        GroupBySortedRun sortedRun = sortedRuns.poll();
+        setCurrentResultSetRow(sortedRun.getCurrentRow());
+        try {
+            if (sortedRun.next()) {
+                sortedRuns.offer(sortedRun);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        sortedRuns.clear();
+        try {
+            for (SpillFile each : spilledRuns) {
+                closeSpillFile(each);
+            }
+        } finally {
+            closeSpillFilesQuietly(spilledRuns);
+            spilledRuns.clear();
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby;
+
+import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import io.shardingsphere.core.merger.dql.common.SpillFile;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * Sorted run of group by rows spilled to disk.
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class GroupBySortedRun implements Comparable<GroupBySortedRun> {
+    
+    private final SpillFile spillFile;
+    
+    private final GroupByRowComparator comparator;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    /**
+     * Iterate next row, spill file will be closed if no more rows.
+     *
+     * @return has next row
+     * @throws IOException IO exception
+     */
+    public boolean next() throws IOException {
+        Object[] data = spillFile.read();
+        if (null == data) {
+            currentRow = null;
+            spillFile.close();
+            return false;
+        }
+        currentRow = new MemoryQueryResultRow(data);
+        return true;
+    }
+    
+    @Override
+    public int compareTo(final GroupBySortedRun o) {
+        return comparator.compare(currentRow, o.currentRow);
+    }
+}
@@ -18,12 +18,14 @@
 package io.shardingsphere.core.merger.dql.groupby;
 
 import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
 import io.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 
@@ -48,6 +50,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(
@@ -56,13 +60,13 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         this.labelAndIndexMap = labelAndIndexMap;
         this.selectStatement = selectStatement;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
+        currentGroupByValues = getOrderByValues().isEmpty() ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues();
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValues().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -83,7 +87,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                 return AggregationUnitFactory.create(input.getType());
             }
         });
-        while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatement.getGroupByItems()).getGroupValues())) {
+        while (isSameGroupByValues()) {
             aggregate(aggregationUnitMap);
             cacheCurrentRow();
             result = super.next();
@@ -95,17 +99,27 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         return result;
     }
     
+    private boolean isSameGroupByValues() throws SQLException {
+        List<OrderItem> groupByItems = selectStatement.getGroupByItems();
+        for (int i = 0; i < groupByItems.size(); i++) {
+            if (!Objects.equal(currentGroupByValues.get(i), getCurrentQueryResult().getValue(groupByItems.get(i).getIndex(), Object.class))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private void aggregate(final Map<AggregationSelectItem, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationSelectItem, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationSelectItems().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationSelectItem each : entry.getKey().getDerivedAggregationSelectItems()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
@@ -19,7 +19,6 @@ package io.shardingsphere.core.merger.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -30,21 +29,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final NumberAccumulator result = new NumberAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        if (null == values) {
             return;
         }
-        if (null == result) {
-            result = new BigDecimal("0");
-        }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result.add(values.get(0));
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return result.getResult();
     }
 }
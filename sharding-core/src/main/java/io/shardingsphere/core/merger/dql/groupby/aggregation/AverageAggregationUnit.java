@@ -30,31 +30,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private final NumberAccumulator count = new NumberAccumulator();
     
-    private BigDecimal sum;
+    private final NumberAccumulator sum = new NumberAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count.add(values.get(0));
+        sum.add(values.get(1));
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
-            return count;
+        BigDecimal countResult = count.getResult();
+        if (null == countResult || BigDecimal.ZERO.equals(countResult)) {
+            return countResult;
         }
         // TODO 通过metadata获取数据库的浮点数精度值
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        return sum.getResult().divide(countResult, 4, BigDecimal.ROUND_HALF_UP);
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Number accumulator.
+ *
+ * <p>
+ * Integral values are accumulated by primitive long without allocation,
+ * accumulator is promoted to big decimal when long overflows or non-integral value added.
+ * </p>
+ *
+ * @author agent
+ */
+public final class NumberAccumulator {
+    
+    private boolean accumulated;
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added, ignored if null
+     */
+    public void add(final Comparable<?> value) {
+        if (null == value) {
+            return;
+        }
+        accumulated = true;
+        if (null == decimalValue && isIntegral(value)) {
+            addLong(((Number) value).longValue());
+            return;
+        }
+        if (null == decimalValue) {
+            decimalValue = BigDecimal.valueOf(longValue);
+        }
+        decimalValue = decimalValue.add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private void addLong(final long value) {
+        long result = longValue + value;
+        if (((longValue ^ result) & (value ^ result)) < 0) {
+            decimalValue = BigDecimal.valueOf(longValue).add(BigDecimal.valueOf(value));
+            return;
+        }
+        longValue = result;
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result, null if no value added
+     */
+    public BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue;
+    }
+}
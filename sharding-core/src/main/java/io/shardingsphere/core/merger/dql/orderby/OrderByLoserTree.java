@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree for merging order by values.
+ *
+ * <p>
+ * Every internal node holds the loser of its sub tree and root holds the winner,
+ * replacing winner only replays the path from its leaf to root, which costs log k comparisons.
+ * </p>
+ *
+ * @author agent
+ */
+public final class OrderByLoserTree {
+    
+    private static final int VIRTUAL_WINNER = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] tree;
+    
+    public OrderByLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        tree = new int[leaves.length];
+        build();
+    }
+    
+    private void build() {
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = VIRTUAL_WINNER;
+        }
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+    
+    private void adjust(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + leaves.length) >> 1; parent > 0; parent >>= 1) {
+            if (isBefore(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isBefore(final int leaf, final int otherLeaf) {
+        if (VIRTUAL_WINNER == leaf) {
+            return true;
+        }
+        if (VIRTUAL_WINNER == otherLeaf || null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+    
+    /**
+     * Judge whether all order by values exhausted.
+     *
+     * @return all order by values exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || null == leaves[tree[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue peek() {
+        return leaves[tree[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and replay tree.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = tree[0];
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        adjust(winner);
+        return !isEmpty();
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.core.merger.dql.orderby;
 
 import com.google.common.base.Preconditions;
+import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import lombok.Getter;
@@ -25,7 +26,6 @@ import lombok.RequiredArgsConstructor;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -41,7 +41,11 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<OrderItem> orderByItems;
     
-    private List<Comparable<?>> orderValues;
+    private final List<Comparable<?>> orderValues = new ArrayList<>();
+    
+    private long[] integralOrderValues;
+    
+    private boolean[] integralFlags;
     
     /**
      * iterate next data.
@@ -51,29 +55,44 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        orderValues.clear();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        if (null == integralFlags) {
+            integralOrderValues = new long[orderByItems.size()];
+            integralFlags = new boolean[orderByItems.size()];
+        }
+        for (int i = 0; i < orderByItems.size(); i++) {
+            Object value = queryResult.getValue(orderByItems.get(i).getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues.add((Comparable<?>) value);
+            integralFlags[i] = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+            if (integralFlags[i]) {
+                integralOrderValues[i] = ((Number) value).longValue();
+            }
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
         for (int i = 0; i < orderByItems.size(); i++) {
             OrderItem thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+            int result = integralFlags[i] && o.integralFlags[i] ? compareIntegral(integralOrderValues[i], o.integralOrderValues[i], thisOrderBy.getOrderDirection())
+                    : CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
             if (0 != result) {
                 return result;
             }
         }
         return 0;
     }
+    
+    private int compareIntegral(final long thisValue, final long otherValue, final OrderDirection orderDirection) {
+        int result = Long.compare(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
 }
@@ -26,6 +26,14 @@ import java.sql.SQLException;
 /**
  * Decorator merged result for limit pagination.
  *
+ * <p>
+ * Offset rows are skipped one by one for stream merged results.
+ * Any shard may hold all rows of the requested page, so every shard has to return offset plus row count rows,
+ * and only a merge of them can tell which rows belong to the offset.
+ * Skipping an ordered stream costs one loser tree adjustment per row, and no row is kept in memory.
+ * Group by memory merged result sorts only offset plus row count groups instead.
+ * </p>
+ *
  * @author zhangliang
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
@@ -17,15 +17,21 @@
 
 package io.shardingsphere.core.metadata;
 
+import com.google.common.base.Strings;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.metadata.table.executor.LazyTableMetaDataLoader;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataConnectionManager;
 import io.shardingsphere.core.metadata.table.executor.TableMetaDataInitializer;
+import io.shardingsphere.core.metadata.table.executor.TableMetaDataLoader;
+import io.shardingsphere.core.metadata.table.snapshot.TableMetaDataSnapshot;
 import io.shardingsphere.core.rule.ShardingRule;
 import lombok.Getter;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -42,7 +48,41 @@ public final class ShardingMetaData {
     
     public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule,
                             final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery) {
+        this(dataSourceURLs, shardingRule, databaseType, executeEngine, connectionManager, maxConnectionsSizePerQuery, "", "", false);
+    }
+    
+    public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, 
+                            final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, 
+                            final String schemaName, final String snapshotDirectory, final boolean defaultTablesLazyLoaded) {
         dataSource = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
-        table = new ShardingTableMetaData(new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery).load(shardingRule));
+        TableMetaDataInitializer tableMetaDataInitializer = new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery, defaultTablesLazyLoaded);
+        LazyTableMetaDataLoader lazyLoader = createLazyLoader(shardingRule, executeEngine, connectionManager, maxConnectionsSizePerQuery, defaultTablesLazyLoaded);
+        if (Strings.isNullOrEmpty(snapshotDirectory)) {
+            table = new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule), null, lazyLoader);
+        } else {
+            TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(snapshotDirectory, schemaName, dataSourceURLs, shardingRule);
+            table = new ShardingTableMetaData(tableMetaDataInitializer.load(shardingRule, snapshot), snapshot, lazyLoader);
+        }
+    }
+    
+    public ShardingMetaData(final Map<String, String> dataSourceURLs, final ShardingRule shardingRule, final DatabaseType databaseType, final ShardingExecuteEngine executeEngine, 
+                            final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final String schemaName, final String snapshotDirectory, 
+                            final boolean defaultTablesLazyLoaded, final ShardingRule originalShardingRule, final ShardingMetaData originalMetaData, final Collection<String> changedDataSourceNames) {
+        dataSource = new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType);
+        Map<String, TableMetaData> tableMetaDataMap = new TableMetaDataInitializer(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery, defaultTablesLazyLoaded)
+                .load(shardingRule, originalShardingRule, originalMetaData.getTable(), changedDataSourceNames);
+        LazyTableMetaDataLoader lazyLoader = createLazyLoader(shardingRule, executeEngine, connectionManager, maxConnectionsSizePerQuery, defaultTablesLazyLoaded);
+        if (Strings.isNullOrEmpty(snapshotDirectory)) {
+            table = new ShardingTableMetaData(tableMetaDataMap, null, lazyLoader);
+        } else {
+            TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(snapshotDirectory, schemaName, dataSourceURLs, shardingRule);
+            snapshot.save(tableMetaDataMap);
+            table = new ShardingTableMetaData(tableMetaDataMap, snapshot, lazyLoader);
+        }
+    }
+    
+    private LazyTableMetaDataLoader createLazyLoader(final ShardingRule shardingRule, final ShardingExecuteEngine executeEngine, 
+                                                     final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean defaultTablesLazyLoaded) {
+        return defaultTablesLazyLoaded ? new LazyTableMetaDataLoader(shardingRule, new TableMetaDataLoader(dataSource, executeEngine, connectionManager, maxConnectionsSizePerQuery)) : null;
     }
 }
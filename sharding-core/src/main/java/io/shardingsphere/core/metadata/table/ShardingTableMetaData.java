@@ -17,12 +17,15 @@
 
 package io.shardingsphere.core.metadata.table;
 
+import com.google.common.base.Optional;
+import io.shardingsphere.core.metadata.table.executor.LazyTableMetaDataLoader;
+import io.shardingsphere.core.metadata.table.snapshot.TableMetaDataSnapshot;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Sharding table meta data.
@@ -31,39 +34,84 @@ import java.util.Map;
  * @author zhaojun
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class ShardingTableMetaData {
     
     @Getter
     private final Map<String, TableMetaData> tableMetaDataMap;
     
+    private final Optional<TableMetaDataSnapshot> snapshot;
+    
+    private final Optional<LazyTableMetaDataLoader> lazyLoader;
+    
+    public ShardingTableMetaData(final Map<String, TableMetaData> tableMetaDataMap) {
+        this(tableMetaDataMap, null);
+    }
+    
+    public ShardingTableMetaData(final Map<String, TableMetaData> tableMetaDataMap, final TableMetaDataSnapshot snapshot) {
+        this(tableMetaDataMap, snapshot, null);
+    }
+    
+    public ShardingTableMetaData(final Map<String, TableMetaData> tableMetaDataMap, final TableMetaDataSnapshot snapshot, final LazyTableMetaDataLoader lazyLoader) {
+        this.tableMetaDataMap = null == lazyLoader ? tableMetaDataMap : new ConcurrentHashMap<>(tableMetaDataMap);
+        this.snapshot = Optional.fromNullable(snapshot);
+        this.lazyLoader = Optional.fromNullable(lazyLoader);
+    }
+    
     /**
      * Get table meta data by table name.
+     * 
+     * <p>
+     * Table meta data of default data source will be loaded at first access if lazy loader is present.
+     * </p>
+     * 
      * @param logicTableName logicTableName logic table name
      * @return table mata data
      */
     public TableMetaData get(final String logicTableName) {
-        return tableMetaDataMap.get(logicTableName);
+        TableMetaData result = tableMetaDataMap.get(logicTableName);
+        if (null != result || !lazyLoader.isPresent()) {
+            return result;
+        }
+        Optional<TableMetaData> loadedTableMetaData = lazyLoader.get().load(logicTableName);
+        if (!loadedTableMetaData.isPresent()) {
+            return null;
+        }
+        tableMetaDataMap.put(logicTableName, loadedTableMetaData.get());
+        return loadedTableMetaData.get();
     }
     
     /**
      * Add table meta data.
      * 
+     * <p>
+     * Snapshot will be invalidated because table structure is changed by DDL.
+     * </p>
+     * 
      * @param logicTableName logic table name
      * @param tableMetaData table meta data
      */
     public void put(final String logicTableName, final TableMetaData tableMetaData) {
         tableMetaDataMap.put(logicTableName, tableMetaData);
+        if (lazyLoader.isPresent()) {
+            lazyLoader.get().evict(logicTableName);
+        }
+        if (snapshot.isPresent()) {
+            snapshot.get().invalidate();
+        }
     }
     
     /**
      * Judge contains table from table meta data or not.
      *
+     * <p>
+     * Table meta data of default data source will not be loaded, only table names are checked if lazy loader is present.
+     * </p>
+     *
      * @param tableName table name
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tableMetaDataMap.containsKey(tableName);
+        return tableMetaDataMap.containsKey(tableName) || lazyLoader.isPresent() && lazyLoader.get().exists(tableName);
     }
     
     /**
@@ -74,7 +122,8 @@ public final class ShardingTableMetaData {
      * @return contains column from table meta data or not
      */
     public boolean containsColumn(final String tableName, final String column) {
-        return containsTable(tableName) && tableMetaDataMap.get(tableName).getAllColumnNames().contains(column.toLowerCase());
+        TableMetaData tableMetaData = get(tableName);
+        return null != tableMetaData && tableMetaData.getAllColumnNames().contains(column.toLowerCase());
     }
     
     /**
@@ -84,7 +133,7 @@ public final class ShardingTableMetaData {
      * @return column names.
      */
     public Collection<String> getAllColumnNames(final String tableName) {
-        TableMetaData tableMeta = tableMetaDataMap.get(tableName);
+        TableMetaData tableMeta = get(tableName);
         if (null == tableMeta) {
             return Collections.emptyList();
         }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lazy table meta data loader for tables of default data source.
+ *
+ * <p>
+ * Concurrent loadings of same table are merged into one loading, other threads wait for result of it.
+ * Tables not exist are cached for a while, so SQL with unknown table names will not query database meta data every time.
+ * Existence of tables is judged by table names of default data source listed once for a while, without loading columns.
+ * </p>
+ *
+ * @author agent
+ */
+public final class LazyTableMetaDataLoader {
+    
+    private static final long MAX_CACHED_TABLE_SIZE = 10000L;
+    
+    private static final long ABSENT_TABLE_EXPIRE_SECONDS = 60L;
+    
+    private final ShardingRule shardingRule;
+    
+    private final TableMetaDataLoader tableMetaDataLoader;
+    
+    private final LoadingCache<String, Optional<TableMetaData>> cache;
+    
+    private final Supplier<Collection<String>> defaultTableNames;
+    
+    public LazyTableMetaDataLoader(final ShardingRule shardingRule, final TableMetaDataLoader tableMetaDataLoader) {
+        this.shardingRule = shardingRule;
+        this.tableMetaDataLoader = tableMetaDataLoader;
+        cache = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_TABLE_SIZE).expireAfterWrite(ABSENT_TABLE_EXPIRE_SECONDS, TimeUnit.SECONDS)
+                .concurrencyLevel(Runtime.getRuntime().availableProcessors()).build(new CacheLoader<String, Optional<TableMetaData>>() {
+                    
+                    @Override
+                    public Optional<TableMetaData> load(final String tableName) throws SQLException {
+                        return loadDefaultTable(tableName);
+                    }
+                });
+        defaultTableNames = Suppliers.memoizeWithExpiration(new Supplier<Collection<String>>() {
+            
+            @Override
+            public Collection<String> get() {
+                return loadDefaultTableNames();
+            }
+        }, ABSENT_TABLE_EXPIRE_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    private Optional<TableMetaData> loadDefaultTable(final String tableName) throws SQLException {
+        if (!isDefaultTable(tableName)) {
+            return Optional.absent();
+        }
+        TableMetaData result = tableMetaDataLoader.load(tableName, shardingRule);
+        return result.getColumnMetaData().isEmpty() ? Optional.<TableMetaData>absent() : Optional.of(result);
+    }
+    
+    private boolean isDefaultTable(final String tableName) {
+        return shardingRule.findActualDefaultDataSourceName().isPresent() && !shardingRule.tryFindTableRuleByLogicTable(tableName.toLowerCase()).isPresent();
+    }
+    
+    private Collection<String> loadDefaultTableNames() {
+        try {
+            return tableMetaDataLoader.loadTableNames(shardingRule.findActualDefaultDataSourceName().get(), shardingRule);
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex);
+        }
+    }
+    
+    /**
+     * Judge table exists in default data source or not without loading columns.
+     *
+     * @param tableName table name
+     * @return table exists in default data source or not
+     */
+    public boolean exists(final String tableName) {
+        if (!isDefaultTable(tableName)) {
+            return false;
+        }
+        Optional<TableMetaData> loadedTableMetaData = cache.getIfPresent(tableName);
+        return null == loadedTableMetaData ? defaultTableNames.get().contains(tableName) : loadedTableMetaData.isPresent();
+    }
+    
+    /**
+     * Load table meta data of default data source.
+     *
+     * @param tableName table name
+     * @return table meta data, absent if table does not exist in default data source
+     */
+    public Optional<TableMetaData> load(final String tableName) {
+        try {
+            return cache.get(tableName);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw ex.getCause() instanceof Exception ? new ShardingException((Exception) ex.getCause()) : new ShardingException(ex);
+        }
+    }
+    
+    /**
+     * Evict cached result of table.
+     *
+     * @param tableName table name
+     */
+    public void evict(final String tableName) {
+        cache.invalidate(tableName);
+    }
+}
@@ -19,10 +19,13 @@ package io.shardingsphere.core.metadata.table.executor;
 
 import com.google.common.base.Optional;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.ShardingExecuteCallback;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.metadata.table.snapshot.TableMetaDataSnapshot;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.rule.TableRule;
 
@@ -31,6 +34,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 
@@ -43,20 +47,35 @@ public final class TableMetaDataInitializer {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ShardingExecuteEngine executeEngine;
+    
     private final TableMetaDataConnectionManager connectionManager;
     
     private final TableMetaDataLoader tableMetaDataLoader;
     
+    private final boolean defaultTablesLazyLoaded;
+    
     public TableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData, 
                                     final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery) {
+        this(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery, false);
+    }
+    
+    public TableMetaDataInitializer(final ShardingDataSourceMetaData shardingDataSourceMetaData, final ShardingExecuteEngine executeEngine, 
+                                    final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean defaultTablesLazyLoaded) {
         this.shardingDataSourceMetaData = shardingDataSourceMetaData;
+        this.executeEngine = executeEngine;
         this.connectionManager = connectionManager;
         tableMetaDataLoader = new TableMetaDataLoader(shardingDataSourceMetaData, executeEngine, connectionManager, maxConnectionsSizePerQuery);
+        this.defaultTablesLazyLoaded = defaultTablesLazyLoaded;
     }
     
     /**
      * Load all table meta data.
      * 
+     * <p>
+     * Tables of default data source are not loaded if they are lazy loaded.
+     * </p>
+     * 
      * @param shardingRule sharding rule
      * @return all table meta data
      */
@@ -71,6 +90,110 @@ public final class TableMetaDataInitializer {
         return result;
     }
     
+    /**
+     * Load all table meta data from snapshot.
+     *
+     * <p>
+     * Snapshot is verified by table names of default data source and one sampled actual table of each sharding table,
+     * all actual tables are loaded and saved into snapshot only if snapshot is absent, expired or not verified.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param snapshot table meta data snapshot
+     * @return all table meta data
+     */
+    public Map<String, TableMetaData> load(final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) {
+        Optional<Map<String, TableMetaData>> snapshotTableMetaDataMap = snapshot.load();
+        try {
+            if (snapshotTableMetaDataMap.isPresent() && isVerified(shardingRule, snapshotTableMetaDataMap.get())) {
+                return snapshotTableMetaDataMap.get();
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex);
+        }
+        Map<String, TableMetaData> result = load(shardingRule);
+        snapshot.save(result);
+        return result;
+    }
+    
+    private boolean isVerified(final ShardingRule shardingRule, final Map<String, TableMetaData> snapshotTableMetaDataMap) throws SQLException {
+        Collection<String> tableNames = new HashSet<>();
+        for (TableRule each : shardingRule.getTableRules()) {
+            tableNames.add(each.getLogicTable());
+        }
+        Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+        if (actualDefaultDataSourceName.isPresent() && !defaultTablesLazyLoaded) {
+            tableNames.addAll(getAllTableNames(actualDefaultDataSourceName.get()));
+        }
+        if (!tableNames.equals(snapshotTableMetaDataMap.keySet())) {
+            return false;
+        }
+        return !executeEngine.execute(shardingRule.getTableRules(), new ShardingExecuteCallback<TableRule, Boolean>() {
+            
+            @Override
+            public Boolean execute(final TableRule tableRule, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                return tableMetaDataLoader.loadSample(tableRule.getLogicTable(), shardingRule).equals(snapshotTableMetaDataMap.get(tableRule.getLogicTable()));
+            }
+        }).contains(false);
+    }
+    
+    /**
+     * Load table meta data of changed tables, reuse others.
+     *
+     * <p>
+     * Table meta data are reused if actual data nodes and data sources of table are not changed.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param originalShardingRule original sharding rule
+     * @param originalTableMetaData original table meta data
+     * @param changedDataSourceNames names of changed data sources
+     * @return all table meta data
+     */
+    public Map<String, TableMetaData> load(final ShardingRule shardingRule, 
+                                           final ShardingRule originalShardingRule, final ShardingTableMetaData originalTableMetaData, final Collection<String> changedDataSourceNames) {
+        Map<String, TableMetaData> result = new HashMap<>();
+        boolean isSameDefaultDataSource = isSameDefaultDataSource(shardingRule, originalShardingRule, changedDataSourceNames);
+        try {
+            for (TableRule each : shardingRule.getTableRules()) {
+                TableMetaData originalTableMetaDataOfTable = originalTableMetaData.get(each.getLogicTable());
+                boolean isReusable = null != originalTableMetaDataOfTable && isSameDefaultDataSource && isSameTableRule(each, shardingRule, originalShardingRule, changedDataSourceNames);
+                result.put(each.getLogicTable(), isReusable ? originalTableMetaDataOfTable : tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            }
+            Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+            if (actualDefaultDataSourceName.isPresent() && !defaultTablesLazyLoaded) {
+                for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
+                    TableMetaData originalTableMetaDataOfTable = originalTableMetaData.get(each);
+                    boolean isReusable = null != originalTableMetaDataOfTable && isSameDefaultDataSource && !originalShardingRule.tryFindTableRuleByLogicTable(each).isPresent();
+                    result.put(each, isReusable ? originalTableMetaDataOfTable : tableMetaDataLoader.load(each, shardingRule));
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex);
+        }
+        return result;
+    }
+    
+    private boolean isSameDefaultDataSource(final ShardingRule shardingRule, final ShardingRule originalShardingRule, final Collection<String> changedDataSourceNames) {
+        Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+        return actualDefaultDataSourceName.equals(originalShardingRule.findActualDefaultDataSourceName())
+                && (!actualDefaultDataSourceName.isPresent() || !changedDataSourceNames.contains(actualDefaultDataSourceName.get()));
+    }
+    
+    private boolean isSameTableRule(final TableRule tableRule, final ShardingRule shardingRule, final ShardingRule originalShardingRule, final Collection<String> changedDataSourceNames) {
+        Optional<TableRule> originalTableRule = originalShardingRule.tryFindTableRuleByLogicTable(tableRule.getLogicTable());
+        if (!originalTableRule.isPresent() || !tableRule.getActualDataNodes().equals(originalTableRule.get().getActualDataNodes())) {
+            return false;
+        }
+        for (String each : tableRule.getActualDatasourceNames()) {
+            String rawMasterDataSourceName = shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(each);
+            if (changedDataSourceNames.contains(rawMasterDataSourceName) || !rawMasterDataSourceName.equals(originalShardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
         Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         for (TableRule each : shardingRule.getTableRules()) {
@@ -82,7 +205,7 @@ public final class TableMetaDataInitializer {
     private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
         Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
-        if (actualDefaultDataSourceName.isPresent()) {
+        if (actualDefaultDataSourceName.isPresent() && !defaultTablesLazyLoaded) {
             for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
                 result.put(each, tableMetaDataLoader.load(each, shardingRule));
             }
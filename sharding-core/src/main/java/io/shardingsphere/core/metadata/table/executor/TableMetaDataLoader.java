@@ -41,6 +41,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Table meta data loader.
@@ -77,14 +78,53 @@ public final class TableMetaDataLoader {
             
             @Override
             public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
-                String dataSourceName = dataNodes.iterator().next().getDataSourceName();
-                DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
-                String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemeName();
-                return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
+                return load(dataNodes.iterator().next().getDataSourceName(), shardingDataSourceNames, dataNodes);
             }
         });
     }
     
+    /**
+     * Load table meta data of one actual table sampled randomly.
+     *
+     * @param logicTableName logic table name
+     * @param shardingRule sharding rule
+     * @return table meta data of sampled actual table
+     * @throws SQLException SQL exception
+     */
+    public TableMetaData loadSample(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
+        List<DataNode> actualDataNodes = shardingRule.getTableRuleByLogicTableName(logicTableName).getActualDataNodes();
+        DataNode sample = actualDataNodes.get(ThreadLocalRandom.current().nextInt(actualDataNodes.size()));
+        return load(sample.getDataSourceName(), shardingRule.getShardingDataSourceNames(), Collections.singletonList(sample)).iterator().next();
+    }
+    
+    /**
+     * Load table names of data source without columns.
+     *
+     * @param dataSourceName data source name
+     * @param shardingRule sharding rule
+     * @return table names
+     * @throws SQLException SQL exception
+     */
+    public Collection<String> loadTableNames(final String dataSourceName, final ShardingRule shardingRule) throws SQLException {
+        Collection<String> result = new HashSet<>();
+        try (Connection connection = connectionManager.getConnection(shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(dataSourceName));
+             ResultSet resultSet = connection.getMetaData().getTables(getCatalog(dataSourceName), null, null, null)) {
+            while (resultSet.next()) {
+                result.add(resultSet.getString("TABLE_NAME"));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<TableMetaData> load(final String dataSourceName, final ShardingDataSourceNames shardingDataSourceNames, final Collection<DataNode> dataNodes) throws SQLException {
+        return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), getCatalog(dataSourceName), dataNodes);
+    }
+    
+    private String getCatalog(final String dataSourceName) {
+        DataSourceMetaData dataSourceMetaData = shardingDataSourceMetaData.getActualDataSourceMetaData(dataSourceName);
+        return null == dataSourceMetaData ? null : dataSourceMetaData.getSchemeName();
+    }
+    
     private Collection<TableMetaData> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes) throws SQLException {
         Collection<TableMetaData> result = new LinkedList<>();
         try (Connection connection = connectionManager.getConnection(dataSourceName)) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.snapshot;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.rule.TableRule;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.yaml.snakeyaml.DumperOptions.FlowStyle;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Table meta data snapshot.
+ *
+ * <p>
+ * Table meta data loaded from all actual tables are persisted into local yaml file, file is named by schema name and data source URLs,
+ * so schemas sharing same data sources never overwrite snapshots of each other.
+ * Snapshot is valid only if checksum of data source URLs and actual data nodes of sharding rule is not changed.
+ * </p>
+ *
+ * @author agent
+ */
+@Slf4j
+@Getter
+public final class TableMetaDataSnapshot {
+    
+    private static final int VERSION = 1;
+    
+    private final File file;
+    
+    private final String checksum;
+    
+    public TableMetaDataSnapshot(final String directory, final String schemaName, final Map<String, String> dataSourceURLs, final ShardingRule shardingRule) {
+        String dataSourceURLsText = new TreeMap<>(dataSourceURLs).toString();
+        file = new File(directory, String.format("table-meta-data-%s-%s.yaml", schemaName.replaceAll("[^A-Za-z0-9_]", "_"), hash(dataSourceURLsText)));
+        checksum = hash(dataSourceURLsText + getShardingRuleText(shardingRule));
+    }
+    
+    private String getShardingRuleText(final ShardingRule shardingRule) {
+        Map<String, String> result = new TreeMap<>();
+        for (TableRule each : shardingRule.getTableRules()) {
+            Map<String, String> rawMasterDataSourceNames = new TreeMap<>();
+            for (String dataSourceName : each.getActualDatasourceNames()) {
+                rawMasterDataSourceNames.put(dataSourceName, shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(dataSourceName));
+            }
+            result.put(each.getLogicTable(), each.getActualDataNodes().toString() + rawMasterDataSourceNames);
+        }
+        return shardingRule.findActualDefaultDataSourceName().or("") + result;
+    }
+    
+    private String hash(final String text) {
+        return Hashing.md5().hashString(text, Charsets.UTF_8).toString();
+    }
+    
+    /**
+     * Load table meta data from snapshot.
+     *
+     * @return table meta data, absent if snapshot does not exist or expired
+     */
+    public Optional<Map<String, TableMetaData>> load() {
+        if (!file.isFile()) {
+            return Optional.absent();
+        }
+        YamlTableMetaDataSnapshot snapshot;
+        try (Reader reader = Files.newReader(file, Charsets.UTF_8)) {
+            snapshot = new Yaml(new Constructor(YamlTableMetaDataSnapshot.class)).loadAs(reader, YamlTableMetaDataSnapshot.class);
+        } catch (final IOException | YAMLException ex) {
+            log.warn("Cannot load table meta data snapshot from `{}`: {}", file, ex.getMessage());
+            return Optional.absent();
+        }
+        if (null == snapshot || VERSION != snapshot.getVersion() || !checksum.equals(snapshot.getChecksum())) {
+            return Optional.absent();
+        }
+        Map<String, TableMetaData> result = new HashMap<>(snapshot.getTables().size(), 1);
+        for (Entry<String, YamlTableMetaData> entry : snapshot.getTables().entrySet()) {
+            result.put(entry.getKey(), entry.getValue().build());
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Save table meta data into snapshot.
+     *
+     * @param tableMetaDataMap table meta data map
+     */
+    public void save(final Map<String, TableMetaData> tableMetaDataMap) {
+        YamlTableMetaDataSnapshot snapshot = new YamlTableMetaDataSnapshot();
+        snapshot.setVersion(VERSION);
+        snapshot.setChecksum(checksum);
+        for (Entry<String, TableMetaData> entry : new TreeMap<>(tableMetaDataMap).entrySet()) {
+            snapshot.getTables().put(entry.getKey(), new YamlTableMetaData(entry.getValue()));
+        }
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            Files.createParentDirs(file);
+            try (Writer writer = Files.newWriter(tempFile, Charsets.UTF_8)) {
+                writer.write(new Yaml().dumpAs(snapshot, Tag.MAP, FlowStyle.BLOCK));
+            }
+            Files.move(tempFile, file);
+        } catch (final IOException ex) {
+            log.warn("Cannot save table meta data snapshot into `{}`: {}", file, ex.getMessage());
+        }
+    }
+    
+    /**
+     * Invalidate snapshot, all actual tables will be loaded when next startup.
+     */
+    public void invalidate() {
+        if (file.exists() && !file.delete()) {
+            log.warn("Cannot delete expired table meta data snapshot `{}`", file);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.snapshot;
+
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Yaml column meta data.
+ *
+ * @author agent
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class YamlColumnMetaData {
+    
+    private String columnName;
+    
+    private String columnType;
+    
+    private boolean primaryKey;
+    
+    public YamlColumnMetaData(final ColumnMetaData columnMetaData) {
+        columnName = columnMetaData.getColumnName();
+        columnType = columnMetaData.getColumnType();
+        primaryKey = columnMetaData.isPrimaryKey();
+    }
+    
+    /**
+     * Build column meta data.
+     *
+     * @return column meta data
+     */
+    public ColumnMetaData build() {
+        return new ColumnMetaData(columnName, columnType, primaryKey);
+    }
+}
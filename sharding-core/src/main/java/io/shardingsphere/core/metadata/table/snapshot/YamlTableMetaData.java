@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.snapshot;
+
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Yaml table meta data.
+ *
+ * @author agent
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class YamlTableMetaData {
+    
+    private List<YamlColumnMetaData> columns = new LinkedList<>();
+    
+    public YamlTableMetaData(final TableMetaData tableMetaData) {
+        for (ColumnMetaData each : tableMetaData.getColumnMetaData()) {
+            columns.add(new YamlColumnMetaData(each));
+        }
+    }
+    
+    /**
+     * Build table meta data.
+     *
+     * @return table meta data
+     */
+    public TableMetaData build() {
+        List<ColumnMetaData> result = new LinkedList<>();
+        for (YamlColumnMetaData each : columns) {
+            result.add(each.build());
+        }
+        return new TableMetaData(result);
+    }
+}
@@ -17,37 +17,36 @@
 
 package io.shardingsphere.core.parsing.cache;
 
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
-
-import java.util.Map;
-import java.util.WeakHashMap;
 
 /**
  * Parsing result cache.
  *
+ * <p>
+ * One cache instance belongs to one logic schema, SQL statements parsed by different sharding rules never share entries.
+ * Least recently used entries will be evicted when the maximum size reached.
+ * </p>
+ *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
 public final class ParsingResultCache {
     
-    private static final ParsingResultCache INSTANCE = new ParsingResultCache();
-    
-    private final Map<String, SQLStatement> cache = new WeakHashMap<>(65535, 1);
+    private final Cache<String, SQLStatement> cache;
     
-    /**
-     * Get parsing result cache instance.
-     * 
-     * @return parsing result cache instance
-     */
-    public static ParsingResultCache getInstance() {
-        return INSTANCE;
+    public ParsingResultCache(final long maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "Maximum size of parsing result cache must be positive.");
+        cache = CacheBuilder.newBuilder().initialCapacity((int) Math.min(maximumSize, 2000L))
+                .maximumSize(maximumSize).concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats().build();
     }
     
     /**
      * Put SQL and parsing result into cache.
-     * 
+     *
      * @param sql SQL
      * @param sqlStatement SQL statement
      */
@@ -61,14 +60,32 @@ public final class ParsingResultCache {
      * @param sql SQL
      * @return SQL statement
      */
-    public SQLStatement getSQLStatement(final String sql) {
-        return cache.get(sql);
+    public Optional<SQLStatement> getSQLStatement(final String sql) {
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Get size of cached SQL statements.
+     *
+     * @return size of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get statistics of hit, miss and eviction.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.parameterize;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.parsing.lexer.LexerEngine;
+import io.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import io.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import io.shardingsphere.core.parsing.lexer.token.Literals;
+import io.shardingsphere.core.parsing.lexer.token.Symbol;
+import io.shardingsphere.core.parsing.lexer.token.Token;
+import io.shardingsphere.core.parsing.lexer.token.TokenType;
+import io.shardingsphere.core.util.NumberUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL parameterize engine.
+ *
+ * <p>
+ * Replace literals of conditions, IN lists and VALUES lists with placeholders,
+ * then SQLs which only different with literals can share same parsing result.
+ * Literals of LIMIT clause are kept because limit values of parsing result will be filled during routing.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class SQLParameterizeEngine {
+    
+    private static final Collection<TokenType> COMPARISON_OPERATORS = Arrays.<TokenType>asList(Symbol.EQ, Symbol.LT, Symbol.GT, Symbol.LT_EQ, Symbol.GT_EQ, Symbol.LT_GT, Symbol.BANG_EQ);
+    
+    private final DatabaseType databaseType;
+    
+    /**
+     * Parameterize SQL.
+     *
+     * @param sql SQL with literals
+     * @return parameterized SQL, absent if SQL is not DML or already contains placeholders
+     */
+    public Optional<ParameterizedSQL> parameterize(final String sql) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        lexerEngine.nextToken();
+        if (!lexerEngine.equalAny(DefaultKeyword.SELECT, DefaultKeyword.INSERT, DefaultKeyword.UPDATE, DefaultKeyword.DELETE)) {
+            return Optional.absent();
+        }
+        StringBuilder template = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        Deque<Boolean> parentheses = new LinkedList<>();
+        int currentPosition = 0;
+        Token previousToken = lexerEngine.getCurrentToken();
+        boolean inValues = false;
+        boolean inBetween = false;
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            Token currentToken = lexerEngine.getCurrentToken();
+            TokenType currentType = currentToken.getType();
+            if (Symbol.QUESTION == currentType) {
+                return Optional.absent();
+            }
+            if (isParameterizableLiterals(sql, currentToken)
+                    && (isComparison(previousToken) || isListItem(previousToken, parentheses) || isBetweenItem(previousToken, inBetween))) {
+                int beginPosition = getBeginPosition(currentToken);
+                String originalLiterals = sql.substring(beginPosition, currentToken.getEndPosition());
+                Object value = getValue(currentToken);
+                template.append(sql.substring(currentPosition, beginPosition)).append(Symbol.QUESTION.getLiterals());
+                parameters.add(value);
+                literals.add(originalLiterals);
+                currentPosition = currentToken.getEndPosition();
+            }
+            if (DefaultKeyword.BETWEEN == currentType) {
+                inBetween = true;
+            } else if (DefaultKeyword.AND == previousToken.getType()) {
+                inBetween = false;
+            }
+            if (DefaultKeyword.VALUES == currentType) {
+                inValues = true;
+            } else if (parentheses.isEmpty() && Symbol.LEFT_PAREN != currentType && Symbol.COMMA != currentType) {
+                inValues = false;
+            }
+            if (Symbol.LEFT_PAREN == currentType) {
+                parentheses.push(DefaultKeyword.IN == previousToken.getType() || inValues && parentheses.isEmpty());
+            } else if (Symbol.RIGHT_PAREN == currentType && !parentheses.isEmpty()) {
+                parentheses.pop();
+            }
+            previousToken = currentToken;
+            lexerEngine.nextToken();
+        }
+        if (parameters.isEmpty()) {
+            return Optional.absent();
+        }
+        template.append(sql.substring(currentPosition));
+        return Optional.of(new ParameterizedSQL(template.toString(), parameters, literals));
+    }
+    
+    private boolean isParameterizableLiterals(final String sql, final Token token) {
+        if (Literals.INT == token.getType() || Literals.FLOAT == token.getType()) {
+            return !token.getLiterals().startsWith("-");
+        }
+        if (Literals.CHARS == token.getType()) {
+            int beginPosition = getBeginPosition(token);
+            return 0 == beginPosition || !Character.isLetterOrDigit(sql.charAt(beginPosition - 1));
+        }
+        return false;
+    }
+    
+    private boolean isComparison(final Token previousToken) {
+        return COMPARISON_OPERATORS.contains(previousToken.getType());
+    }
+    
+    private boolean isListItem(final Token previousToken, final Deque<Boolean> parentheses) {
+        return !parentheses.isEmpty() && parentheses.peek() && (Symbol.LEFT_PAREN == previousToken.getType() || Symbol.COMMA == previousToken.getType());
+    }
+    
+    private boolean isBetweenItem(final Token previousToken, final boolean inBetween) {
+        return inBetween && (DefaultKeyword.BETWEEN == previousToken.getType() || DefaultKeyword.AND == previousToken.getType());
+    }
+    
+    private int getBeginPosition(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getEndPosition() - token.getLiterals().length() - 2 : token.getEndPosition() - token.getLiterals().length();
+    }
+    
+    private Object getValue(final Token token) {
+        if (Literals.INT == token.getType()) {
+            return NumberUtil.getExactlyNumber(token.getLiterals(), 10);
+        }
+        if (Literals.FLOAT == token.getType()) {
+            return Double.parseDouble(token.getLiterals());
+        }
+        return token.getLiterals();
+    }
+    
+    /**
+     * Restore placeholders of rewritten SQL with original literals.
+     *
+     * <p>
+     * Parameters of rewritten SQL are original parameters in same order, maybe part of them and maybe with generated ones.
+     * They are matched with original parameters by position, generated parameters are restored with their values.
+     * </p>
+     *
+     * @param sql rewritten SQL with placeholders
+     * @param parameters parameters for placeholders
+     * @param parameterizedSQL parameterized SQL which parameters come from
+     * @return SQL with literals
+     */
+    public String restore(final String sql, final List<Object> parameters, final ParameterizedSQL parameterizedSQL) {
+        if (parameters.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 8);
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        int currentPosition = 0;
+        int parameterIndex = 0;
+        int originalParameterIndex = 0;
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            if (lexerEngine.equalAny(Symbol.QUESTION)) {
+                int beginPosition = lexerEngine.getCurrentToken().getEndPosition() - 1;
+                Object parameter = parameters.get(parameterIndex++);
+                int matchedIndex = findOriginalParameterIndex(parameter, parameterizedSQL.getParameters(), originalParameterIndex);
+                String literals;
+                if (-1 == matchedIndex) {
+                    literals = toLiterals(parameter);
+                } else {
+                    literals = parameterizedSQL.getLiterals().get(matchedIndex);
+                    originalParameterIndex = matchedIndex + 1;
+                }
+                result.append(sql.substring(currentPosition, beginPosition)).append(literals);
+                currentPosition = lexerEngine.getCurrentToken().getEndPosition();
+            }
+            lexerEngine.nextToken();
+        }
+        return result.append(sql.substring(currentPosition)).toString();
+    }
+    
+    private int findOriginalParameterIndex(final Object parameter, final List<Object> originalParameters, final int fromIndex) {
+        for (int i = fromIndex; i < originalParameters.size(); i++) {
+            if (parameter == originalParameters.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private String toLiterals(final Object parameter) {
+        if (parameter instanceof Number) {
+            return parameter.toString();
+        }
+        return "'" + String.valueOf(parameter).replace("'", "''") + "'";
+    }
+}
@@ -47,23 +47,36 @@ import java.util.Map;
  */
 public final class SQLBuilder {
     
+    private static final int ESTIMATED_PLACEHOLDER_LENGTH = 32;
+    
     private final List<Object> segments;
     
     private final List<Object> parameters;
     
     private StringBuilder currentSegment;
     
+    private List<Object> template;
+    
+    private int templateLength;
+    
     public SQLBuilder() {
         this(Collections.emptyList());
     }
     
     public SQLBuilder(final List<Object> parameters) {
-        segments = new LinkedList<>();
+        segments = new ArrayList<>();
         this.parameters = parameters;
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
     }
     
+    private SQLBuilder(final List<Object> template, final int templateLength, final List<Object> parameters) {
+        segments = template;
+        this.parameters = parameters;
+        this.template = template;
+        this.templateLength = templateLength;
+    }
+    
     /**
      * Append literals.
      *
@@ -71,6 +84,7 @@ public final class SQLBuilder {
      */
     public void appendLiterals(final String literals) {
         currentSegment.append(literals);
+        template = null;
     }
     
     /**
@@ -82,6 +96,42 @@ public final class SQLBuilder {
         segments.add(shardingPlaceholder);
         currentSegment = new StringBuilder();
         segments.add(currentSegment);
+        template = null;
+    }
+    
+    /**
+     * Bind parameters to a new SQL builder which shares compiled segments with this one.
+     * 
+     * <p>
+     * Bound SQL builder is used to generate SQL only, literals and placeholders can not be appended to it.
+     * </p>
+     *
+     * @param parameters parameters
+     * @return SQL builder with bound parameters
+     */
+    public SQLBuilder bind(final List<Object> parameters) {
+        compile();
+        return new SQLBuilder(template, templateLength, parameters);
+    }
+    
+    private void compile() {
+        if (null != template) {
+            return;
+        }
+        List<Object> result = new ArrayList<>(segments.size());
+        int length = 0;
+        for (Object each : segments) {
+            if (each instanceof ShardingPlaceholder) {
+                result.add(each);
+                length += ESTIMATED_PLACEHOLDER_LENGTH;
+            } else if (0 != ((StringBuilder) each).length()) {
+                String literals = each.toString();
+                result.add(literals);
+                length += literals.length();
+            }
+        }
+        template = Collections.unmodifiableList(result);
+        templateLength = length;
     }
     
     /**
@@ -94,9 +144,10 @@ public final class SQLBuilder {
      * @return SQL unit
      */
     public SQLUnit toSQL(final TableUnit tableUnit, final Map<String, String> logicAndActualTableMap, final ShardingRule shardingRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        StringBuilder result = new StringBuilder();
+        compile();
+        StringBuilder result = new StringBuilder(templateLength);
         List<Object> insertParameters = new LinkedList<>();
-        for (Object each : segments) {
+        for (Object each : template) {
             if (!(each instanceof ShardingPlaceholder)) {
                 result.append(each);
                 continue;
@@ -127,8 +178,9 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final MasterSlaveRule masterSlaveRule, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        StringBuilder result = new StringBuilder();
-        for (Object each : segments) {
+        compile();
+        StringBuilder result = new StringBuilder(templateLength);
+        for (Object each : template) {
             if (each instanceof SchemaPlaceholder) {
                 result.append(shardingDataSourceMetaData.getActualDataSourceMetaData(masterSlaveRule.getMasterDataSourceName()).getSchemeName());
             } else {
@@ -17,15 +17,29 @@
 
 package io.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.hint.HintManagerHolder;
+import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parser.context.condition.AndCondition;
+import io.shardingsphere.core.parsing.parser.context.condition.Condition;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
-import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import io.shardingsphere.core.parsing.parser.sql.dml.DMLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.util.SQLLogger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -42,13 +56,26 @@ public final class PreparedStatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
+    private final boolean showSQL;
+    
+    private final RouteResultCache routeResultCache;
+    
     private SQLStatement sqlStatement;
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
-                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
+                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                          final ParsingResultCache parsingResultCache) {
+        this(logicSQL, shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, new RouteResultCache(0));
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData, 
+                                          final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                          final ParsingResultCache parsingResultCache, final RouteResultCache routeResultCache) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        this.showSQL = showSQL;
+        this.routeResultCache = routeResultCache;
     }
     
     /**
@@ -56,6 +83,8 @@ public final class PreparedStatementRoutingEngine {
      * 
      * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
      * 
+     * <p>If route result cache is enabled, route units of same sharding parameters will be reused and only bind parameters.</p>
+     * 
      * @param parameters parameters of SQL placeholder
      * @return route result
      */
@@ -63,6 +92,61 @@ public final class PreparedStatementRoutingEngine {
         if (null == sqlStatement) {
             sqlStatement = shardingRouter.parse(logicSQL, true);
         }
-        return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+        Optional<List<Object>> shardingParameters = isRouteResultCacheable() ? getShardingParameters(parameters) : Optional.<List<Object>>absent();
+        if (!shardingParameters.isPresent()) {
+            return masterSlaveRouter.route(shardingRouter.route(logicSQL, parameters, sqlStatement));
+        }
+        Optional<Collection<RouteUnit>> cachedRouteUnits = routeResultCache.getRouteUnits(logicSQL, shardingParameters.get());
+        if (cachedRouteUnits.isPresent()) {
+            return masterSlaveRouter.route(bindParameters(cachedRouteUnits.get(), parameters));
+        }
+        SQLRouteResult result = shardingRouter.route(logicSQL, parameters, sqlStatement);
+        routeResultCache.put(logicSQL, shardingParameters.get(), getRouteUnitTemplates(result.getRouteUnits()));
+        return masterSlaveRouter.route(result);
+    }
+    
+    private boolean isRouteResultCacheable() {
+        if (!routeResultCache.isEnabled() || null != HintManagerHolder.get() || sqlStatement instanceof InsertStatement) {
+            return false;
+        }
+        if (sqlStatement instanceof SelectStatement) {
+            return null == ((SelectStatement) sqlStatement).getLimit();
+        }
+        return sqlStatement instanceof DMLStatement;
+    }
+    
+    private Optional<List<Object>> getShardingParameters(final List<Object> parameters) {
+        List<Object> result = new LinkedList<>();
+        for (AndCondition each : sqlStatement.getConditions().getOrCondition().getAndConditions()) {
+            for (Condition condition : each.getConditions()) {
+                for (int index : condition.getPositionIndexMap().values()) {
+                    Object parameter = parameters.get(index);
+                    if (null == parameter) {
+                        return Optional.absent();
+                    }
+                    result.add(parameter);
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private Collection<RouteUnit> getRouteUnitTemplates(final Collection<RouteUnit> routeUnits) {
+        Collection<RouteUnit> result = new ArrayList<>(routeUnits.size());
+        for (RouteUnit each : routeUnits) {
+            result.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), Collections.<List<Object>>emptyList())));
+        }
+        return result;
+    }
+    
+    private SQLRouteResult bindParameters(final Collection<RouteUnit> routeUnitTemplates, final List<Object> parameters) {
+        SQLRouteResult result = new SQLRouteResult(sqlStatement);
+        for (RouteUnit each : routeUnitTemplates) {
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(Collections.singleton(parameters)))));
+        }
+        if (showSQL) {
+            SQLLogger.logSQL(logicSQL, sqlStatement, result.getRouteUnits());
+        }
+        return result;
     }
 }
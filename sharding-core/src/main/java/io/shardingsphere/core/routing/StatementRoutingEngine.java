@@ -17,16 +17,22 @@
 
 package io.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.parsing.parameterize.ParameterizedSQL;
+import io.shardingsphere.core.parsing.parameterize.SQLParameterizeEngine;
 import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import io.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import io.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import io.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Statement routing engine.
@@ -40,10 +46,23 @@ public final class StatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
+    private final SQLParameterizeEngine parameterizeEngine;
+    
+    private final boolean parameterized;
+    
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
-                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData) {
-        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData);
+                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                  final ParsingResultCache parsingResultCache) {
+        this(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache, false);
+    }
+    
+    public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingTableMetaData shardingTableMetaData,
+                                  final DatabaseType databaseType, final boolean showSQL, final ShardingDataSourceMetaData shardingDataSourceMetaData, 
+                                  final ParsingResultCache parsingResultCache, final boolean parameterized) {
+        shardingRouter = ShardingRouterFactory.createSQLRouter(shardingRule, shardingTableMetaData, databaseType, showSQL, shardingDataSourceMetaData, parsingResultCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        parameterizeEngine = new SQLParameterizeEngine(databaseType);
+        this.parameterized = parameterized;
     }
     
     /**
@@ -53,7 +72,26 @@ public final class StatementRoutingEngine {
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
+        if (parameterized) {
+            Optional<ParameterizedSQL> parameterizedSQL = parameterizeEngine.parameterize(logicSQL);
+            if (parameterizedSQL.isPresent()) {
+                return route(parameterizedSQL.get());
+            }
+        }
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    private SQLRouteResult route(final ParameterizedSQL parameterizedSQL) {
+        SQLStatement sqlStatement = shardingRouter.parse(parameterizedSQL.getSql(), true);
+        SQLRouteResult routeResult = masterSlaveRouter.route(shardingRouter.route(parameterizedSQL.getSql(), new ArrayList<>(parameterizedSQL.getParameters()), sqlStatement));
+        SQLRouteResult result = new SQLRouteResult(routeResult.getSqlStatement(), routeResult.getGeneratedKey());
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            String sql = parameterizeEngine.restore(each.getSqlUnit().getSql(), each.getSqlUnit().getParameterSets().get(0), parameterizedSQL);
+            List<List<Object>> parameterSets = new ArrayList<>(1);
+            parameterSets.add(Collections.<Object>emptyList());
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), new SQLUnit(sql, parameterSets)));
+        }
+        return result;
+    }
 }
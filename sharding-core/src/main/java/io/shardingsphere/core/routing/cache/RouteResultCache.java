@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.shardingsphere.core.routing.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Route result cache.
+ *
+ * <p>
+ * Cache route units of prepared statement which keyed by logic SQL and parameters of sharding conditions.
+ * Route units are only SQL templates, parameters should bind for every execution.
+ * Cache is disabled if maximum size is zero.
+ * </p>
+ *
+ * @author agent
+ */
+public final class RouteResultCache {
+    
+    private final long maximumSize;
+    
+    private final Cache<List<Object>, Collection<RouteUnit>> cache;
+    
+    public RouteResultCache(final long maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 0, "Maximum size of route result cache can not be negative.");
+        this.maximumSize = maximumSize;
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).concurrencyLevel(Runtime.getRuntime().availableProcessors()).recordStats().build();
+    }
+    
+    /**
+     * Judge route result cache is enabled or not.
+     *
+     * @return route result cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+    
+    /**
+     * Put route units into cache.
+     *
+     * @param logicSQL logic SQL
+     * @param shardingParameters parameters of sharding conditions
+     * @param routeUnits route units
+     */
+    public void put(final String logicSQL, final List<Object> shardingParameters, final Collection<RouteUnit> routeUnits) {
+        cache.put(getKey(logicSQL, shardingParameters), routeUnits);
+    }
+    
+    /**
+     * Get route units.
+     *
+     * @param logicSQL logic SQL
+     * @param shardingParameters parameters of sharding conditions
+     * @return route units
+     */
+    public Optional<Collection<RouteUnit>> getRouteUnits(final String logicSQL, final List<Object> shardingParameters) {
+        return Optional.fromNullable(cache.getIfPresent(getKey(logicSQL, shardingParameters)));
+    }
+    
+    private List<Object> getKey(final String logicSQL, final List<Object> shardingParameters) {
+        List<Object> result = new ArrayList<>(shardingParameters.size() + 1);
+        result.add(logicSQL);
+        result.addAll(shardingParameters);
+        return result;
+    }
+    
+    /**
+     * Get size of cached route results.
+     *
+     * @return size of cached route results
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Get statistics of hit, miss and eviction.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -24,6 +24,7 @@ import io.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import io.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import io.shardingsphere.core.optimizer.condition.ShardingConditions;
 import io.shardingsphere.core.parsing.SQLParsingEngine;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.context.condition.Column;
 import io.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
 import io.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
@@ -86,13 +87,19 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingDataSourceMetaData shardingDataSourceMetaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
     private final ParsingHook parsingHook = new SPIParsingHook();
     
+    private SQLStatement rewrittenSQLStatement;
+    
+    private SQLBuilder rewrittenSQLBuilder;
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         parsingHook.start(logicSQL);
         try {
-            SQLStatement result = new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData).parse(useCache);
+            SQLStatement result = new SQLParsingEngine(databaseType, logicSQL, shardingRule, shardingTableMetaData, parsingResultCache).parse(useCache);
             parsingHook.finishSuccess();
             return result;
         } catch (final Exception ex) {
@@ -118,7 +125,7 @@ public final class ParsingSQLRouter implements ShardingRouter {
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
             processLimit(parameters, (SelectStatement) sqlStatement);
         }
-        SQLBuilder sqlBuilder = rewriteEngine.rewrite(!isSingleRouting);
+        SQLBuilder sqlBuilder = rewrite(rewriteEngine, sqlStatement, !isSingleRouting, parameters);
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
             result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingDataSourceMetaData)));
         }
@@ -128,6 +135,22 @@ public final class ParsingSQLRouter implements ShardingRouter {
         return result;
     }
     
+    private SQLBuilder rewrite(final SQLRewriteEngine rewriteEngine, final SQLStatement sqlStatement, final boolean isRewriteLimit, final List<Object> parameters) {
+        if (!isRewriteResultReusable(sqlStatement)) {
+            return rewriteEngine.rewrite(isRewriteLimit);
+        }
+        if (sqlStatement == rewrittenSQLStatement) {
+            return rewrittenSQLBuilder.bind(parameters);
+        }
+        rewrittenSQLBuilder = rewriteEngine.rewrite(isRewriteLimit);
+        rewrittenSQLStatement = sqlStatement;
+        return rewrittenSQLBuilder;
+    }
+    
+    private boolean isRewriteResultReusable(final SQLStatement sqlStatement) {
+        return !(sqlStatement instanceof InsertStatement) && !(sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit());
+    }
+    
     private RoutingResult route(final SQLStatement sqlStatement, final ShardingConditions shardingConditions) {
         Collection<String> tableNames = sqlStatement.getTables().getTableNames();
         RoutingEngine routingEngine;
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import io.shardingsphere.core.util.InlineExpressionParser;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression.
+ *
+ * <p>
+ * Algorithm expression is compiled once.
+ * Simple expressions such as {@code t_order_${order_id % 16}} or {@code t_order_${order_id}} are evaluated by java code for integral sharding values,
+ * results of modulo are memoized if modulo is small.
+ * Other expressions or sharding values are evaluated by groovy closure which is rehydrated only once per thread.
+ * </p>
+ *
+ * @author agent
+ */
+public final class InlineShardingExpression {
+    
+    private static final Pattern SIMPLE_EXPRESSION_PATTERN = Pattern.compile("^([^$\"'\\\\{}]*)\\$\\{\\s*([A-Za-z_]\\w*)\\s*(?:%\\s*(\\d{1,9})\\s*)?}([^$\"'\\\\{}]*)$");
+    
+    private static final int MAX_MEMOIZED_MODULO = 1024;
+    
+    private final String variableName;
+    
+    private final boolean simple;
+    
+    private final String prefix;
+    
+    private final String suffix;
+    
+    private final int modulo;
+    
+    private final String[] memoizedResults;
+    
+    private final ThreadLocal<Closure<?>> closures;
+    
+    public InlineShardingExpression(final String shardingColumn, final String algorithmExpression) {
+        variableName = shardingColumn.toLowerCase();
+        Matcher matcher = SIMPLE_EXPRESSION_PATTERN.matcher(algorithmExpression);
+        simple = matcher.matches() && variableName.equals(matcher.group(2)) && !"0".equals(matcher.group(3));
+        prefix = simple ? matcher.group(1) : "";
+        suffix = simple ? matcher.group(4) : "";
+        modulo = simple && null != matcher.group(3) ? Integer.parseInt(matcher.group(3)) : 0;
+        memoizedResults = new String[modulo <= MAX_MEMOIZED_MODULO ? modulo : 0];
+        for (int i = 0; i < memoizedResults.length; i++) {
+            memoizedResults[i] = prefix + i + suffix;
+        }
+        final Closure<?> closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        closures = new ThreadLocal<Closure<?>>() {
+            
+            @Override
+            protected Closure<?> initialValue() {
+                Closure<?> result = closure.rehydrate(new Expando(), null, null);
+                result.setResolveStrategy(Closure.DELEGATE_ONLY);
+                return result;
+            }
+        };
+    }
+    
+    /**
+     * Evaluate sharding expression.
+     *
+     * @param value sharding value
+     * @return target name
+     */
+    public String evaluate(final Comparable<?> value) {
+        if (simple && isIntegral(value)) {
+            return evaluateIntegral(((Number) value).longValue());
+        }
+        if (simple && 0 == modulo && value instanceof String) {
+            return prefix + value + suffix;
+        }
+        Closure<?> closure = closures.get();
+        closure.setProperty(variableName, value);
+        return closure.call().toString();
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private String evaluateIntegral(final long value) {
+        if (0 == modulo) {
+            return prefix + value + suffix;
+        }
+        long remainder = value % modulo;
+        return remainder >= 0 && remainder < memoizedResults.length ? memoizedResults[(int) remainder] : prefix + remainder + suffix;
+    }
+}
@@ -18,10 +18,7 @@
 package io.shardingsphere.core.routing.strategy.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import io.shardingsphere.api.algorithm.sharding.ListShardingValue;
-import io.shardingsphere.api.algorithm.sharding.PreciseShardingValue;
 import io.shardingsphere.api.algorithm.sharding.ShardingValue;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.core.routing.strategy.ShardingStrategy;
@@ -29,8 +26,6 @@ import io.shardingsphere.core.util.InlineExpressionParser;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -42,14 +37,14 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final String shardingColumn;
     
-    private final Closure<?> closure;
+    private final InlineShardingExpression shardingExpression;
     
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
-        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        shardingExpression = new InlineShardingExpression(shardingColumn, algorithmExpression);
     }
     
     @Override
@@ -62,30 +57,14 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         return result;
     }
     
-    private Collection<String> doSharding(final ListShardingValue shardingValue) {
-        Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
-        }
-        return result;
-    }
-    
-    @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListShardingValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
+    private Collection<String> doSharding(final ListShardingValue<?> shardingValue) {
+        Collection<String> result = new ArrayList<>(shardingValue.getValues().size());
         for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
+            result.add(shardingExpression.evaluate(each));
         }
         return result;
     }
     
-    private String execute(final PreciseShardingValue shardingValue) {
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName().toLowerCase(), shardingValue.getValue());
-        return result.call().toString();
-    }
-    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -39,8 +39,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Standard routing engine.
@@ -61,7 +61,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     @Override
     public RoutingResult route() {
         TableRule tableRule = shardingRule.getTableRuleByLogicTableName(logicTableName);
-        Collection<DataNode> dataNodes = new LinkedList<>();
+        Collection<DataNode> dataNodes = new ArrayList<>();
         if (isRoutingByHint(tableRule)) {
             dataNodes.addAll(routeByHint(tableRule));
         } else {
@@ -72,7 +72,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     
     private Collection<DataNode> route(final TableRule tableRule, final List<ShardingValue> databaseShardingValues, final List<ShardingValue> tableShardingValues) {
         Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>();
         for (String each : routedDataSources) {
             result.addAll(routeTables(tableRule, each, tableShardingValues));
         }
@@ -88,7 +88,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByHint(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>();
         List<ShardingValue> databaseShardingValues = getDatabaseShardingValuesFromHint();
         List<ShardingValue> tableShardingValues = getTableShardingValuesFromHint();
         result.addAll(route(tableRule, databaseShardingValues, tableShardingValues));
@@ -97,7 +97,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<DataNode> routeByShardingConditions(final TableRule tableRule) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>();
         if (shardingConditions.getShardingConditions().isEmpty()) {
             result.addAll(route(tableRule, Collections.<ShardingValue>emptyList(), Collections.<ShardingValue>emptyList()));
         } else {
@@ -153,19 +153,19 @@ public final class StandardRoutingEngine implements RoutingEngine {
         if (databaseShardingValues.isEmpty()) {
             return availableTargetDatabases;
         }
-        Collection<String> result = new LinkedHashSet<>(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(availableTargetDatabases, databaseShardingValues));
+        Collection<String> result = shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(availableTargetDatabases, databaseShardingValues);
         Preconditions.checkState(!result.isEmpty(), "no database route info");
-        return result;
+        return result instanceof Set ? result : new LinkedHashSet<>(result);
     }
     
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<ShardingValue> tableShardingValues) {
         Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
-        Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+        Collection<String> routedTables = tableShardingValues.isEmpty() ? availableTargetTables
+                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues);
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
-        Collection<DataNode> result = new LinkedList<>();
-        for (String each : routedTables) {
-            result.add(new DataNode(routedDataSource, each));
+        Collection<DataNode> result = new ArrayList<>(routedTables.size());
+        for (String each : routedTables instanceof Set ? routedTables : new LinkedHashSet<>(routedTables)) {
+            result.add(tableRule.getActualDataNode(routedDataSource, each));
         }
         return result;
     }
@@ -28,14 +28,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Table rule configuration.
@@ -43,7 +45,7 @@ import java.util.Map;
  * @author zhangliang
  */
 @Getter
-@ToString(exclude = "dataNodeIndexMap")
+@ToString(exclude = {"dataNodeIndexMap", "dataSourceDataNodesMap", "actualTableNames"})
 public final class TableRule {
     
     private final String logicTable;
@@ -53,6 +55,12 @@ public final class TableRule {
     @Getter(AccessLevel.NONE)
     private final Map<DataNode, Integer> dataNodeIndexMap;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, DataNode>> dataSourceDataNodesMap;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> actualTableNames;
+    
     private final ShardingStrategy databaseShardingStrategy;
     
     private final ShardingStrategy tableShardingStrategy;
@@ -67,6 +75,8 @@ public final class TableRule {
         logicTable = logicTableName.toLowerCase();
         actualDataNodes = Collections.singletonList(new DataNode(defaultDataSourceName, logicTableName));
         dataNodeIndexMap = Collections.emptyMap();
+        dataSourceDataNodesMap = createDataSourceDataNodesMap();
+        actualTableNames = createActualTableNames();
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -78,6 +88,8 @@ public final class TableRule {
         logicTable = logicTableName.toLowerCase();
         dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
+        dataSourceDataNodesMap = createDataSourceDataNodesMap();
+        actualTableNames = createActualTableNames();
         databaseShardingStrategy = null;
         tableShardingStrategy = null;
         generateKeyColumn = null;
@@ -92,6 +104,8 @@ public final class TableRule {
         dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualDataNodes = isEmptyDataNodes(dataNodes)
             ? generateDataNodes(tableRuleConfig.getLogicTable(), shardingDataSourceNames.getDataSourceNames()) : generateDataNodes(dataNodes, shardingDataSourceNames.getDataSourceNames());
+        dataSourceDataNodesMap = createDataSourceDataNodesMap();
+        actualTableNames = createActualTableNames();
         databaseShardingStrategy = null == tableRuleConfig.getDatabaseShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getDatabaseShardingStrategyConfig());
         tableShardingStrategy = null == tableRuleConfig.getTableShardingStrategyConfig() ? null : ShardingStrategyFactory.newInstance(tableRuleConfig.getTableShardingStrategyConfig());
         generateKeyColumn = tableRuleConfig.getKeyGeneratorColumnName();
@@ -104,7 +118,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         int index = 0;
         for (String each : dataSourceNames) {
             DataNode dataNode = new DataNode(each, logicTable);
@@ -116,7 +130,7 @@ public final class TableRule {
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         int index = 0;
         for (String each : actualDataNodes) {
             DataNode dataNode = new DataNode(each);
@@ -130,6 +144,28 @@ public final class TableRule {
         return result;
     }
     
+    private Map<String, Map<String, DataNode>> createDataSourceDataNodesMap() {
+        Map<String, Map<String, DataNode>> result = new LinkedHashMap<>();
+        for (DataNode each : actualDataNodes) {
+            if (!result.containsKey(each.getDataSourceName())) {
+                result.put(each.getDataSourceName(), new LinkedHashMap<String, DataNode>());
+            }
+            result.get(each.getDataSourceName()).put(each.getTableName(), each);
+        }
+        for (Entry<String, Map<String, DataNode>> entry : result.entrySet()) {
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Collection<String> createActualTableNames() {
+        Collection<String> result = new HashSet<>(actualDataNodes.size(), 1);
+        for (DataNode each : actualDataNodes) {
+            result.add(each.getTableName().toLowerCase());
+        }
+        return result;
+    }
+    
     /**
      * Get data node groups.
      *
@@ -153,11 +189,7 @@ public final class TableRule {
      * @return actual data source names
      */
     public Collection<String> getActualDatasourceNames() {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            result.add(each.getDataSourceName());
-        }
-        return result;
+        return dataSourceDataNodesMap.keySet();
     }
     
     /**
@@ -167,13 +199,21 @@ public final class TableRule {
      * @return names of actual tables
      */
     public Collection<String> getActualTableNames(final String targetDataSource) {
-        Collection<String> result = new LinkedHashSet<>(actualDataNodes.size());
-        for (DataNode each : actualDataNodes) {
-            if (targetDataSource.equals(each.getDataSourceName())) {
-                result.add(each.getTableName());
-            }
-        }
-        return result;
+        Map<String, DataNode> dataNodes = dataSourceDataNodesMap.get(targetDataSource);
+        return null == dataNodes ? Collections.<String>emptySet() : dataNodes.keySet();
+    }
+    
+    /**
+     * Get actual data node.
+     *
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return actual data node
+     */
+    public DataNode getActualDataNode(final String dataSourceName, final String actualTableName) {
+        Map<String, DataNode> dataNodes = dataSourceDataNodesMap.get(dataSourceName);
+        DataNode result = null == dataNodes ? null : dataNodes.get(actualTableName);
+        return null == result ? new DataNode(dataSourceName, actualTableName) : result;
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
@@ -182,11 +222,6 @@ public final class TableRule {
     }
     
     boolean isExisted(final String actualTableName) {
-        for (DataNode each : actualDataNodes) {
-            if (each.getTableName().equalsIgnoreCase(actualTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return actualTableNames.contains(actualTableName.toLowerCase());
     }
 }
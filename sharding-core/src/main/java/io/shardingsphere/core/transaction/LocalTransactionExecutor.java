@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.transaction;
+
+import io.shardingsphere.core.executor.ShardingExecuteCallback;
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Local transaction executor.
+ *
+ * <p>
+ * Commit or rollback all connections of local transaction even if some of them failed, exceptions are thrown after all connections are executed.
+ * If parallel is enabled, connections are committed or rolled back by execute engine concurrently.
+ * If latency log interval is positive, latency histogram is logged once every this number of transactions.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class LocalTransactionExecutor {
+    
+    private final ShardingExecuteEngine executeEngine;
+    
+    private final boolean parallel;
+    
+    private final int latencyLogInterval;
+    
+    @Getter
+    private final TransactionLatencyHistogram latencyHistogram = new TransactionLatencyHistogram();
+    
+    /**
+     * Commit connections.
+     *
+     * @param connections connections to be committed
+     * @throws SQLException throw SQL exception after all connections are committed
+     */
+    public void commit(final Collection<Connection> connections) throws SQLException {
+        execute(connections, new ShardingExecuteCallback<Connection, SQLException>() {
+            
+            @Override
+            public SQLException execute(final Connection input, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                try {
+                    input.commit();
+                    return null;
+                } catch (final SQLException ex) {
+                    return ex;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Rollback connections.
+     *
+     * @param connections connections to be rolled back
+     * @throws SQLException throw SQL exception after all connections are rolled back
+     */
+    public void rollback(final Collection<Connection> connections) throws SQLException {
+        execute(connections, new ShardingExecuteCallback<Connection, SQLException>() {
+            
+            @Override
+            public SQLException execute(final Connection input, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                try {
+                    input.rollback();
+                    return null;
+                } catch (final SQLException ex) {
+                    return ex;
+                }
+            }
+        });
+    }
+    
+    private void execute(final Collection<Connection> connections, final ShardingExecuteCallback<Connection, SQLException> callback) throws SQLException {
+        long startNanos = System.nanoTime();
+        try {
+            throwSQLExceptionIfNecessary(parallel && connections.size() > 1 ? executeEngine.execute(connections, callback) : serialExecute(connections, callback));
+        } finally {
+            latencyHistogram.record(System.nanoTime() - startNanos);
+            logLatencyIfNecessary();
+        }
+    }
+    
+    private void logLatencyIfNecessary() {
+        if (latencyLogInterval <= 0) {
+            return;
+        }
+        long count = latencyHistogram.getCount();
+        if (0L == count % latencyLogInterval) {
+            log.info("Local transaction latency: count={}, p50={}us, p90={}us, p99={}us",
+                    count, latencyHistogram.getPercentileMicros(50), latencyHistogram.getPercentileMicros(90), latencyHistogram.getPercentileMicros(99));
+        }
+    }
+    
+    private Collection<SQLException> serialExecute(final Collection<Connection> connections, final ShardingExecuteCallback<Connection, SQLException> callback) throws SQLException {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Connection each : connections) {
+            result.add(callback.execute(each, true, null));
+        }
+        return result;
+    }
+    
+    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
+        SQLException ex = null;
+        for (SQLException each : exceptions) {
+            if (null == each) {
+                continue;
+            }
+            if (null == ex) {
+                ex = new SQLException();
+            }
+            ex.setNextException(each);
+        }
+        if (null != ex) {
+            throw ex;
+        }
+    }
+}
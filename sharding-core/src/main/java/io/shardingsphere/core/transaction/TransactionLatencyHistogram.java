@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.transaction;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram of transactions.
+ *
+ * <p>
+ * Latencies are counted in buckets of power of two microseconds,
+ * bucket N counts latencies from 2^(N-1) inclusive to 2^N exclusive microseconds, bucket 0 counts latencies less than 1 microsecond.
+ * </p>
+ *
+ * @author agent
+ */
+public final class TransactionLatencyHistogram {
+    
+    private static final int BUCKET_SIZE = 32;
+    
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_SIZE);
+    
+    /**
+     * Record latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(final long latencyNanos) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        bucketCounts.incrementAndGet(Math.min(BUCKET_SIZE - 1, Long.SIZE - Long.numberOfLeadingZeros(latencyMicros)));
+    }
+    
+    /**
+     * Get count of recorded latencies.
+     *
+     * @return count of recorded latencies
+     */
+    public long getCount() {
+        long result = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            result += bucketCounts.get(i);
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of bucket.
+     *
+     * @param bucketIndex bucket index
+     * @return count of bucket
+     */
+    public long getBucketCount(final int bucketIndex) {
+        return bucketCounts.get(bucketIndex);
+    }
+    
+    /**
+     * Get upper bound of latency percentile.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return upper bound of latency percentile in microseconds, 0 means no latency recorded
+     */
+    public long getPercentileMicros(final double percentile) {
+        long count = getCount();
+        if (0L == count) {
+            return 0L;
+        }
+        long threshold = Math.max(1L, (long) Math.ceil(count * percentile / 100));
+        long accumulatedCount = 0L;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            accumulatedCount += bucketCounts.get(i);
+            if (accumulatedCount >= threshold) {
+                return 1L << i;
+            }
+        }
+        return 1L << (BUCKET_SIZE - 1);
+    }
+}
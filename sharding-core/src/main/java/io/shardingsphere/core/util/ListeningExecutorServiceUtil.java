@@ -19,11 +19,15 @@ package io.shardingsphere.core.util;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,6 +38,8 @@ import java.util.concurrent.TimeUnit;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ListeningExecutorServiceUtil {
     
+    private static final String WORK_STEALING_THREAD_NAME_PREFIX = "Sharding-Sphere-WorkStealing-";
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
     /**
@@ -43,12 +49,39 @@ public final class ListeningExecutorServiceUtil {
      * @return instance of listening executor service
      */
     public static ListeningExecutorService createAndGet(final int executorSize) {
-        ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
-                0 == executorSize ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build()) : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build()));
+        return createAndGet(executorSize, ExecutorType.THREAD_POOL);
+    }
+    
+    /**
+     * Get listening executor service.
+     *
+     * @param executorSize thread count of the thread pool or parallelism of the work stealing pool
+     * @param executorType executor type
+     * @return instance of listening executor service
+     */
+    public static ListeningExecutorService createAndGet(final int executorSize, final ExecutorType executorType) {
+        ListeningExecutorService executorService = MoreExecutors.listeningDecorator(ExecutorType.WORK_STEALING == executorType ? createWorkStealingPool(executorSize) : createThreadPool(executorSize));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
         return executorService;
     }
     
+    private static ExecutorService createThreadPool(final int executorSize) {
+        return 0 == executorSize ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build()) : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build());
+    }
+    
+    private static ExecutorService createWorkStealingPool(final int executorSize) {
+        int parallelism = 0 == executorSize ? Runtime.getRuntime().availableProcessors() * 2 : executorSize;
+        return new ForkJoinPool(parallelism, new ForkJoinWorkerThreadFactory() {
+            
+            @Override
+            public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+                ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                result.setName(WORK_STEALING_THREAD_NAME_PREFIX + result.getPoolIndex());
+                return result;
+            }
+        }, null, true);
+    }
+    
     /**
      * Close executor service.
      *
@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -63,4 +64,17 @@ public final class DataSourceConfigurationTest {
         assertThat(actual.getUsername(), is("root"));
         assertThat(actual.getPassword(), is("root"));
     }
+    
+    @Test
+    public void assertEquals() {
+        DataSourceConfiguration originalDataSourceConfig = new DataSourceConfiguration(DataSourceParameter.DATA_SOURCE_POOL_CLASS_NAME);
+        originalDataSourceConfig.getProperties().put("jdbcUrl", "jdbc:h2:mem:test");
+        DataSourceConfiguration sameDataSourceConfig = new DataSourceConfiguration(DataSourceParameter.DATA_SOURCE_POOL_CLASS_NAME);
+        sameDataSourceConfig.getProperties().put("jdbcUrl", "jdbc:h2:mem:test");
+        DataSourceConfiguration changedDataSourceConfig = new DataSourceConfiguration(DataSourceParameter.DATA_SOURCE_POOL_CLASS_NAME);
+        changedDataSourceConfig.getProperties().put("jdbcUrl", "jdbc:h2:mem:test_changed");
+        assertThat(originalDataSourceConfig, is(sameDataSourceConfig));
+        assertThat(originalDataSourceConfig.hashCode(), is(sameDataSourceConfig.hashCode()));
+        assertThat(originalDataSourceConfig, not(changedDataSourceConfig));
+    }
 }
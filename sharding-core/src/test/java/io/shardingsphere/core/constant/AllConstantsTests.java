@@ -24,6 +24,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         DatabaseTypeTest.class,
+        ExecutorTypeTest.class,
         ShardingPropertiesConstantTest.class,
         ShardingPropertiesTest.class
     })
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.constant;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorTypeTest {
+    
+    @Test
+    public void assertValueFromSuccess() {
+        assertThat(ExecutorType.valueFrom("THREAD_POOL"), is(ExecutorType.THREAD_POOL));
+        assertThat(ExecutorType.valueFrom("work_stealing"), is(ExecutorType.WORK_STEALING));
+        assertThat(ExecutorType.valueFrom(" Work_Stealing "), is(ExecutorType.WORK_STEALING));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertValueFromFailure() {
+        ExecutorType.valueFrom("unknown");
+    }
+}
@@ -17,12 +17,27 @@
 
 package io.shardingsphere.core.executor;
 
+import io.shardingsphere.core.executor.bulkhead.ShardingExecuteBulkheadTest;
+import io.shardingsphere.core.executor.connection.BulkConnectionAcquirerTest;
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResultTest;
+import io.shardingsphere.core.executor.sql.execute.result.ReadAheadQueryResultTest;
+import io.shardingsphere.core.executor.sql.execute.result.StatisticsQueryResultTest;
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatisticsTest;
 import io.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(ExecutorExceptionHandlerTest.class)
+@SuiteClasses({
+        ShardingExecuteEngineTest.class,
+        ShardingExecuteBulkheadTest.class,
+        BulkConnectionAcquirerTest.class,
+        MemoryQueryResultTest.class,
+        ReadAheadQueryResultTest.class,
+        StatisticsQueryResultTest.class,
+        QueryResultStatisticsTest.class,
+        ExecutorExceptionHandlerTest.class
+})
 public final class AllExecutorTests {
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor;
+
+import io.shardingsphere.core.constant.ExecutorType;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingExecuteEngineTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2, ExecutorType.WORK_STEALING);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        List<Integer> actual = executeEngine.execute(Arrays.asList(1, 2, 3, 4), new ShardingExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Integer execute(final Integer input, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                return input * 10;
+            }
+        });
+        assertThat(actual, is(Arrays.asList(10, 20, 30, 40)));
+    }
+    
+    @Test
+    public void assertGroupExecute() throws SQLException {
+        List<ShardingExecuteGroup<Integer>> inputGroups = Arrays.asList(new ShardingExecuteGroup<>(Arrays.asList(1, 2)), new ShardingExecuteGroup<>(Arrays.asList(3, 4)));
+        List<Integer> actual = executeEngine.groupExecute(inputGroups, new ShardingGroupExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<Integer> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                return Collections.singletonList(inputs.iterator().next());
+            }
+        });
+        assertThat(actual, is(Arrays.asList(1, 3)));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertExecuteFailure() throws SQLException {
+        executeEngine.execute(Arrays.asList(1, 2, 3), new ShardingExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Integer execute(final Integer input, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                if (3 == input) {
+                    throw new SQLException("failure");
+                }
+                return input;
+            }
+        });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.bulkhead;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class ShardingExecuteBulkheadTest {
+    
+    @Test
+    public void assertDisabled() throws SQLException {
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(0, 0, 0L);
+        assertFalse(bulkhead.isEnabled());
+        bulkhead.acquire("ds_0");
+        bulkhead.acquire("ds_0");
+        assertFalse(bulkhead.findDataSourceBulkhead("ds_0").isPresent());
+    }
+    
+    @Test
+    public void assertAcquireAndRelease() throws SQLException {
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(2, 0, 0L);
+        assertTrue(bulkhead.isEnabled());
+        bulkhead.acquire("ds_0");
+        bulkhead.acquire("ds_0");
+        bulkhead.acquire("ds_1");
+        assertThat(bulkhead.findDataSourceBulkhead("ds_0").get().getActiveCount(), is(2));
+        assertThat(bulkhead.findDataSourceBulkhead("ds_1").get().getActiveCount(), is(1));
+        bulkhead.release("ds_0");
+        assertThat(bulkhead.findDataSourceBulkhead("ds_0").get().getActiveCount(), is(1));
+    }
+    
+    @Test
+    public void assertAcquireAndReleasePermits() throws SQLException {
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(2, 0, 0L);
+        assertThat(bulkhead.acquire("ds_0", 3), is(2));
+        assertThat(bulkhead.findDataSourceBulkhead("ds_0").get().getActiveCount(), is(2));
+        bulkhead.release("ds_0", 2);
+        assertThat(bulkhead.findDataSourceBulkhead("ds_0").get().getActiveCount(), is(0));
+    }
+    
+    @Test
+    public void assertRejectWithoutWaiting() throws SQLException {
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(1, 0, 1000L);
+        bulkhead.acquire("ds_0");
+        try {
+            bulkhead.acquire("ds_0");
+            fail("Execution should be rejected.");
+        } catch (final SQLException ex) {
+            assertThat(bulkhead.findDataSourceBulkhead("ds_0").get().getRejectedCount(), is(1L));
+            assertThat(bulkhead.findDataSourceBulkhead("ds_0").get().getWaitingCount(), is(0));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertRejectWithWaitingTimeout() throws SQLException {
+        ShardingExecuteBulkhead bulkhead = new ShardingExecuteBulkhead(1, 1, 10L);
+        bulkhead.acquire("ds_0");
+        bulkhead.acquire("ds_0");
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.connection;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class BulkConnectionAcquirerTest {
+    
+    @Test
+    public void assertAcquireSerially() throws SQLException {
+        BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.<String, Integer>emptyMap(), 0L);
+        assertFalse(acquirer.findDataSourceReservation("ds_0").isPresent());
+        List<Connection> actual = acquirer.acquire("ds_0", mockDataSource(), 2);
+        assertThat(actual.size(), is(2));
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getMaxConnectionsSize(), is(0));
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getAcquiredCount(), is(1L));
+    }
+    
+    @Test
+    public void assertAcquireWithReservation() throws SQLException {
+        BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.singletonMap("ds_0", 4), 0L);
+        List<Connection> actual = acquirer.acquire("ds_0", mockDataSource(), 3);
+        assertThat(actual.size(), is(3));
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getAcquiredCount(), is(1L));
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getContendedCount(), is(0L));
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getReservedCount(), is(3));
+    }
+    
+    @Test
+    public void assertReservationHeldUntilConnectionsClosed() throws SQLException {
+        BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.singletonMap("ds_0", 4), 0L);
+        Connection connection = mock(Connection.class);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        List<Connection> actual = acquirer.acquire("ds_0", dataSource, 3);
+        try {
+            acquirer.acquire("ds_0", mockDataSource(), 2);
+            fail("Reservation should be timeout.");
+        } catch (final SQLException ex) {
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getFailedCount(), is(1L));
+        }
+        actual.get(0).close();
+        actual.get(0).close();
+        verify(connection, times(2)).close();
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getReservedCount(), is(2));
+        actual.get(1).close();
+        actual.get(2).close();
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getReservedCount(), is(0));
+        assertThat(acquirer.acquire("ds_0", mockDataSource(), 4).size(), is(4));
+    }
+    
+    @Test
+    public void assertAcquireWithoutWaitingWhileHolding() throws SQLException {
+        BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.singletonMap("ds_0", 4), 10000L);
+        List<Connection> actual = acquirer.acquire("ds_0", mockDataSource(), 3);
+        assertThat(acquirer.acquire("ds_0", mockDataSource(), 1, true).size(), is(1));
+        try {
+            acquirer.acquire("ds_0", mockDataSource(), 1, true);
+            fail("Reservation should be failed without waiting.");
+        } catch (final SQLException ex) {
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getContendedCount(), is(1L));
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getFailedCount(), is(1L));
+        }
+        actual.get(0).close();
+        assertThat(acquirer.acquire("ds_0", mockDataSource(), 1, true).size(), is(1));
+    }
+    
+    @Test
+    public void assertKeepReservationsOfUnchangedDataSources() throws SQLException {
+        Map<String, Integer> maxConnectionsSizes = new HashMap<>(2, 1);
+        maxConnectionsSizes.put("ds_0", 4);
+        maxConnectionsSizes.put("ds_1", 4);
+        BulkConnectionAcquirer originalAcquirer = new BulkConnectionAcquirer(maxConnectionsSizes, 0L);
+        List<Connection> connections0 = originalAcquirer.acquire("ds_0", mockDataSource(), 3);
+        originalAcquirer.acquire("ds_1", mockDataSource(), 3);
+        BulkConnectionAcquirer actual = new BulkConnectionAcquirer(maxConnectionsSizes, 0L, originalAcquirer, Collections.singletonList("ds_1"));
+        assertThat(actual.findDataSourceReservation("ds_0").get(), is(originalAcquirer.findDataSourceReservation("ds_0").get()));
+        assertFalse(actual.findDataSourceReservation("ds_1").isPresent());
+        try {
+            actual.acquire("ds_0", mockDataSource(), 2);
+            fail("Reservation should be timeout.");
+        } catch (final SQLException ex) {
+            assertThat(actual.findDataSourceReservation("ds_0").get().getFailedCount(), is(1L));
+        }
+        assertThat(actual.acquire("ds_1", mockDataSource(), 4).size(), is(4));
+        connections0.get(0).close();
+        assertThat(actual.acquire("ds_0", mockDataSource(), 2).size(), is(2));
+    }
+    
+    @Test
+    public void assertAcquireExceedMaxConnectionsSize() {
+        BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.singletonMap("ds_0", 2), 0L);
+        try {
+            acquirer.acquire("ds_0", mockDataSource(), 3);
+            fail("Reservation should be failed.");
+        } catch (final SQLException ex) {
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getFailedCount(), is(1L));
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getReservedCount(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertAcquireFailedAndReleased() throws SQLException {
+        BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.singletonMap("ds_0", 4), 0L);
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection0, connection1).thenThrow(new SQLException("datasource is not enough"));
+        try {
+            acquirer.acquire("ds_0", dataSource, 3);
+            fail("Acquisition should be failed.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getMessage(), is("Could't get 3 connections one time, partition succeed connection(2) have released!"));
+        }
+        verify(connection0).close();
+        verify(connection1).close();
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getReservedCount(), is(0));
+        assertThat(acquirer.acquire("ds_0", mockDataSource(), 4).size(), is(4));
+    }
+    
+    @Test
+    public void assertAcquireTimeout() throws SQLException, InterruptedException {
+        final BulkConnectionAcquirer acquirer = new BulkConnectionAcquirer(Collections.singletonMap("ds_0", 3), 10L);
+        final CountDownLatch acquiring = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final DataSource blockedDataSource = mock(DataSource.class);
+        when(blockedDataSource.getConnection()).thenAnswer(new Answer<Connection>() {
+            
+            @Override
+            public Connection answer(final InvocationOnMock invocation) throws InterruptedException {
+                acquiring.countDown();
+                blocked.await();
+                return mock(Connection.class);
+            }
+        });
+        Thread thread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    for (Connection each : acquirer.acquire("ds_0", blockedDataSource, 2)) {
+                        each.close();
+                    }
+                } catch (final SQLException ignored) {
+                }
+            }
+        });
+        thread.start();
+        acquiring.await();
+        try {
+            acquirer.acquire("ds_0", mockDataSource(), 2);
+            fail("Reservation should be timeout.");
+        } catch (final SQLException ex) {
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getContendedCount(), is(1L));
+            assertThat(acquirer.findDataSourceReservation("ds_0").get().getFailedCount(), is(1L));
+        } finally {
+            blocked.countDown();
+            thread.join();
+        }
+        assertThat(acquirer.findDataSourceReservation("ds_0").get().getReservedCount(), is(0));
+    }
+    
+    private DataSource mockDataSource() throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(mock(Connection.class));
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultTest {
+    
+    @Test
+    public void assertNextWithTypedColumns() throws SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        ResultSet resultSet = mockResultSet(new Object[] {1, 10L, 1.5D, "a", timestamp}, new Object[] {null, 20L, null, "a", null});
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, 0);
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getColumnCount(), is(5));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue("col_2", Object.class), is((Object) 10L));
+        assertThat(actual.getValue(3, Object.class), is((Object) 1.5D));
+        assertThat(actual.getValue(4, Object.class), is((Object) "a"));
+        assertThat(actual.getCalendarValue(5, Object.class, null), is((Object) timestamp));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertThat(actual.getValue(2, Object.class), is((Object) 20L));
+        assertThat(actual.getValue(3, Object.class), nullValue());
+        assertThat(actual.getValue(4, Object.class), is((Object) "a"));
+        assertThat(actual.getValue(5, Object.class), nullValue());
+        assertFalse(actual.next());
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test
+    public void assertNextWithPromotedColumns() throws SQLException {
+        ResultSet resultSet = mockResultSet(new Object[] {null, 1}, new Object[] {1, 2L}, new Object[] {2, "a"});
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, 0);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertThat(actual.getValue(2, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) 2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertThat(actual.getValue(2, Object.class), is((Object) "a"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpilledRows() throws SQLException {
+        ResultSet resultSet = mockResultSet(new Object[] {1, "a"}, new Object[] {2, null}, new Object[] {3, "c"});
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet, 1);
+        assertThat(actual.getRowCount(), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue("col_2", Object.class), is((Object) "a"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertThat(actual.getValue(2, Object.class), nullValue());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 3));
+        assertThat(actual.getValue("col_2", Object.class), is((Object) "c"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetColumnLabel() throws SQLException {
+        MemoryQueryResult actual = new MemoryQueryResult(mockResultSet(new Object[] {1}), 0);
+        assertThat(actual.getColumnLabel(1), is("col_1"));
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        int columnCount = rows[0].length;
+        when(resultSetMetaData.getColumnCount()).thenReturn(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            when(resultSetMetaData.getColumnLabel(i)).thenReturn("col_" + i);
+        }
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        Boolean[] nextResults = new Boolean[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            nextResults[i] = i < rows.length - 1;
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        for (int i = 1; i <= columnCount; i++) {
+            Object[] values = new Object[rows.length - 1];
+            for (int j = 1; j < rows.length; j++) {
+                values[j - 1] = rows[j][i - 1];
+            }
+            when(result.getObject(i)).thenReturn(rows[0][i - 1], values);
+        }
+        return result;
+    }
+}
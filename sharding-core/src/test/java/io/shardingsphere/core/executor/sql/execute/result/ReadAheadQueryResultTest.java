@@ -0,0 +1,242 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReadAheadQueryResultTest {
+    
+    private ShardingExecuteEngine executeEngine;
+    
+    @Before
+    public void setUp() {
+        executeEngine = new ShardingExecuteEngine(1);
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertNextWithReadAhead() throws SQLException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {1, "a"}, new Object[] {2, null}, new Object[] {3, "c"}), 1, executeEngine);
+        assertThat(actual.getColumnCount(), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is((Object) 1));
+        assertThat(actual.getValue("col_2", String.class), is((Object) "a"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is((Object) 2));
+        assertThat(actual.getValue(2, String.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is((Object) 3));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertWorkerReturnsThreadWhenBufferFull() throws SQLException, InterruptedException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {1}, new Object[] {2}, new Object[] {3}, new Object[] {4}), 1, executeEngine);
+        final CountDownLatch latch = new CountDownLatch(1);
+        executeEngine.asyncExecute(new Runnable() {
+            
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextDirectlyWhenWorkerNotStarted() throws SQLException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        executeEngine.asyncExecute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    latch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {1}, new Object[] {2}), 1, executeEngine);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertFalse(actual.next());
+        latch.countDown();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFetchException() throws SQLException {
+        ResultSet resultSet = mockResultSet(new Object[] {1});
+        when(resultSet.next()).thenThrow(new SQLException("fetch failure"));
+        new ReadAheadQueryResult(resultSet, 1, executeEngine).next();
+    }
+    
+    @Test
+    public void assertNextAfterClose() throws SQLException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {1}, new Object[] {2}, new Object[] {3}), 1, executeEngine);
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseResultSetStopsWorker() throws SQLException, InterruptedException {
+        final CountDownLatch blockLatch = new CountDownLatch(1);
+        executeEngine.asyncExecute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    blockLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        ResultSet resultSet = mockResultSet(new Object[] {1}, new Object[] {2});
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(resultSet, 1, executeEngine);
+        actual.getResultSet().close();
+        blockLatch.countDown();
+        final CountDownLatch finishLatch = new CountDownLatch(1);
+        executeEngine.asyncExecute(new Runnable() {
+            
+            @Override
+            public void run() {
+                finishLatch.countDown();
+            }
+        });
+        assertTrue(finishLatch.await(5L, TimeUnit.SECONDS));
+        assertFalse(actual.next());
+        verify(resultSet).close();
+        verify(resultSet, never()).next();
+    }
+    
+    @Test
+    public void assertGetValueForReader() throws SQLException, IOException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {"a"}), 1, executeEngine);
+        assertTrue(actual.next());
+        assertThat(((Reader) actual.getValue(1, Reader.class)).read(), is((int) 'a'));
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        Timestamp timestamp = new Timestamp(0L);
+        timestamp.setNanos(1000);
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {timestamp}), 1, executeEngine);
+        assertTrue(actual.next());
+        Timestamp localTimestamp = (Timestamp) actual.getCalendarValue(1, Timestamp.class, Calendar.getInstance());
+        assertThat(localTimestamp.getTime(), is(0L));
+        assertThat(localTimestamp.getNanos(), is(1000));
+        Timestamp shiftedTimestamp = (Timestamp) actual.getCalendarValue("col_1", Timestamp.class, Calendar.getInstance(TimeZone.getTimeZone("GMT+01:00")));
+        assertThat(shiftedTimestamp.getTime(), is((long) TimeZone.getDefault().getOffset(0L) - 3600000L));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetCalendarValueWithUnsupportedType() throws SQLException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {new Timestamp(0L)}), 1, executeEngine);
+        assertTrue(actual.next());
+        actual.getCalendarValue(1, String.class, Calendar.getInstance());
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException, IOException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {"a", new byte[] {1}}), 1, executeEngine);
+        assertTrue(actual.next());
+        InputStream asciiStream = actual.getInputStream(1, "Ascii");
+        assertThat(asciiStream.read(), is((int) 'a'));
+        assertThat(asciiStream.read(), is(-1));
+        assertThat(actual.getInputStream("col_2", "Binary").read(), is(1));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetInputStreamWithUnsupportedValue() throws SQLException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {1}), 1, executeEngine);
+        assertTrue(actual.next());
+        actual.getInputStream(1, "Binary");
+    }
+    
+    @Test
+    public void assertGetColumnLabel() throws SQLException {
+        ReadAheadQueryResult actual = new ReadAheadQueryResult(mockResultSet(new Object[] {1}), 1, executeEngine);
+        assertThat(actual.getColumnLabel(1), is("col_1"));
+    }
+    
+    private ResultSet mockResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        int columnCount = rows[0].length;
+        when(resultSetMetaData.getColumnCount()).thenReturn(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            when(resultSetMetaData.getColumnLabel(i)).thenReturn("col_" + i);
+        }
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        Boolean[] nextResults = new Boolean[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            nextResults[i] = i < rows.length - 1;
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        for (int i = 1; i <= columnCount; i++) {
+            Object[] values = new Object[rows.length - 1];
+            for (int j = 1; j < rows.length; j++) {
+                values[j - 1] = rows[j][i - 1];
+            }
+            when(result.getObject(i)).thenReturn(rows[0][i - 1], values);
+        }
+        return result;
+    }
+}
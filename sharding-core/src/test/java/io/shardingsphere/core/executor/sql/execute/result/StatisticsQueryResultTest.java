@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.execute.result;
+
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatistics;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StatisticsQueryResultTest {
+    
+    @Test
+    public void assertRecordRowCountAndLatencyWhenExhausted() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, true, false);
+        QueryResultStatistics queryResultStatistics = new QueryResultStatistics(10L);
+        StatisticsQueryResult actual = new StatisticsQueryResult(queryResult, "SELECT * FROM t_order_0", queryResultStatistics, 100L);
+        SQLUnit sqlUnit = new SQLUnit("SELECT * FROM t_order_0", Collections.<List<Object>>emptyList());
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertThat(queryResultStatistics.estimateRowCount(Collections.singleton(sqlUnit)), is(0L));
+        assertFalse(actual.next());
+        assertThat(queryResultStatistics.estimateRowCount(Collections.singleton(sqlUnit)), is(2L));
+        assertTrue(queryResultStatistics.estimateLatencyNanos(Collections.singleton(sqlUnit)) >= 100L);
+        assertFalse(actual.next());
+        assertThat(queryResultStatistics.estimateRowCount(Collections.singleton(sqlUnit)), is(2L));
+    }
+}
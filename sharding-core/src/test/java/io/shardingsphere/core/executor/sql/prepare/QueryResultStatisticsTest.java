@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.executor.sql.prepare;
+
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryResultStatisticsTest {
+    
+    @Test
+    public void assertDisabled() {
+        QueryResultStatistics actual = new QueryResultStatistics(0L);
+        actual.record("SELECT * FROM t_order_0", 100L, 0L);
+        assertFalse(actual.isEnabled());
+        assertThat(actual.estimateRowCount(Collections.singletonList(createSQLUnit("SELECT * FROM t_order_0"))), is(0L));
+    }
+    
+    @Test
+    public void assertEstimateRowCount() {
+        QueryResultStatistics actual = new QueryResultStatistics(100L);
+        actual.record("SELECT * FROM t_order_0", 40L, 0L);
+        actual.record("SELECT * FROM t_order_0", 80L, 0L);
+        actual.record("SELECT * FROM t_order_1", 20L, 0L);
+        assertThat(actual.estimateRowCount(Arrays.asList(createSQLUnit("SELECT * FROM t_order_0"), createSQLUnit("SELECT * FROM t_order_1"), createSQLUnit("SELECT * FROM t_order_2"))), is(70L));
+    }
+    
+    @Test
+    public void assertEstimateRowCountBySQLTemplate() {
+        QueryResultStatistics actual = new QueryResultStatistics(100L);
+        actual.record("SELECT * FROM t_order_0 WHERE order_id = 10 AND status = 'it''s'", 40L, 0L);
+        assertThat(actual.estimateRowCount(Collections.singletonList(createSQLUnit("SELECT * FROM t_order_0 WHERE order_id = 2 AND status = 'ok'"))), is(40L));
+        assertThat(actual.estimateRowCount(Collections.singletonList(createSQLUnit("SELECT * FROM t_order_1 WHERE order_id = 10 AND status = 'it''s'"))), is(0L));
+    }
+    
+    @Test
+    public void assertEstimateLatencyNanos() {
+        QueryResultStatistics actual = new QueryResultStatistics(100L);
+        actual.record("SELECT * FROM t_order_0", 10L, 400L);
+        actual.record("SELECT * FROM t_order_0", 10L, 800L);
+        actual.record("SELECT * FROM t_order_1", 10L, 200L);
+        assertThat(actual.estimateLatencyNanos(Arrays.asList(createSQLUnit("SELECT * FROM t_order_0"), createSQLUnit("SELECT * FROM t_order_1"), createSQLUnit("SELECT * FROM t_order_2"))), is(700L));
+    }
+    
+    @Test
+    public void assertIsMemoryExceeded() {
+        QueryResultStatistics actual = new QueryResultStatistics(100L);
+        actual.record("SELECT * FROM t_order_0", 60L, 0L);
+        actual.record("SELECT * FROM t_order_1", 60L, 0L);
+        assertFalse(actual.isMemoryExceeded(Collections.singletonList(createSQLUnit("SELECT * FROM t_order_0"))));
+        assertTrue(actual.isMemoryExceeded(Arrays.asList(createSQLUnit("SELECT * FROM t_order_0"), createSQLUnit("SELECT * FROM t_order_1"))));
+    }
+    
+    private SQLUnit createSQLUnit(final String sql) {
+        return new SQLUnit(sql, Collections.<List<Object>>emptyList());
+    }
+}
@@ -30,14 +30,20 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -70,6 +76,50 @@ public class SQLExecutePrepareTemplateTest {
         }
     }
     
+    @Test
+    public void assertGetExecuteUnitGroupNotExceedMaxConnectionsSizeWhenMemoryExceeded() throws SQLException {
+        mockConnections(callback, ConnectionMode.CONNECTION_STRICTLY, 1);
+        QueryResultStatistics queryResultStatistics = new QueryResultStatistics(10L);
+        queryResultStatistics.record("SELECT * FROM t_order_0", 100L, 0L);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(1, queryResultStatistics);
+        Collection<RouteUnit> routeUnits = Arrays.asList(new RouteUnit("ds_0", new SQLUnit("SELECT * FROM t_order_0", Collections.<List<Object>>emptyList())),
+                new RouteUnit("ds_0", new SQLUnit("SELECT * FROM t_order_1", Collections.<List<Object>>emptyList())));
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(routeUnits, callback);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getInputs().size(), is(2));
+        verify(callback, times(2)).createStatementExecuteUnit(any(Connection.class), any(RouteUnit.class), eq(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupForHeaviestShardMemoryStrictlyWhenMemoryExceeded() throws SQLException {
+        mockConnections(callback, ConnectionMode.MEMORY_STRICTLY, 2);
+        QueryResultStatistics queryResultStatistics = new QueryResultStatistics(10L);
+        queryResultStatistics.record("SELECT * FROM t_order_1", 100L, 0L);
+        queryResultStatistics.record("SELECT * FROM t_order_2", 5L, 0L);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2, queryResultStatistics);
+        SQLUnit heaviestSQLUnit = new SQLUnit("SELECT * FROM t_order_1", Collections.<List<Object>>emptyList());
+        Collection<RouteUnit> routeUnits = Arrays.asList(new RouteUnit("ds_0", new SQLUnit("SELECT * FROM t_order_0", Collections.<List<Object>>emptyList())),
+                new RouteUnit("ds_0", heaviestSQLUnit), new RouteUnit("ds_0", new SQLUnit("SELECT * FROM t_order_2", Collections.<List<Object>>emptyList())));
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(routeUnits, callback);
+        assertThat(actual.size(), is(2));
+        Iterator<ShardingExecuteGroup<StatementExecuteUnit>> iterator = actual.iterator();
+        assertThat(iterator.next().getInputs().size(), is(1));
+        assertThat(iterator.next().getInputs().size(), is(2));
+        verify(callback).createStatementExecuteUnit(any(Connection.class), eq(new RouteUnit("ds_0", heaviestSQLUnit)), eq(ConnectionMode.MEMORY_STRICTLY));
+        verify(callback, times(2)).createStatementExecuteUnit(any(Connection.class), any(RouteUnit.class), eq(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertGetExecuteUnitGroupWithUnevenPartitionNotExceedMaxConnectionsSize() throws SQLException {
+        mockConnections(callback, ConnectionMode.CONNECTION_STRICTLY, 2);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(2);
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 5), callback);
+        assertThat(actual.size(), is(2));
+        Iterator<ShardingExecuteGroup<StatementExecuteUnit>> iterator = actual.iterator();
+        assertThat(iterator.next().getInputs().size(), is(3));
+        assertThat(iterator.next().getInputs().size(), is(2));
+    }
+    
     private void mockConnections(final SQLExecutePrepareCallback callback, final ConnectionMode connectionMode, final int size) throws SQLException {
         List<Connection> connections = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
@@ -26,7 +26,10 @@ import io.shardingsphere.core.merger.dql.DQLMergeEngineTest;
 import io.shardingsphere.core.merger.dql.common.DecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.common.MemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.common.MemoryQueryResultRowTest;
+import io.shardingsphere.core.merger.dql.common.SpillFileTest;
+import io.shardingsphere.core.merger.dql.common.SpilledQueryResultTest;
 import io.shardingsphere.core.merger.dql.common.StreamMergedResultTest;
+import io.shardingsphere.core.merger.dql.distinct.DistinctDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResultTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResultTest;
@@ -35,6 +38,7 @@ import io.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import io.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
+import io.shardingsphere.core.merger.dql.orderby.OrderByLoserTreeTest;
 import io.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
 import io.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
 import io.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResultTest;
@@ -50,8 +54,11 @@ import org.junit.runners.Suite.SuiteClasses;
         MemoryMergedResultTest.class, 
         DecoratorMergedResultTest.class, 
         MemoryQueryResultRowTest.class, 
+        SpillFileTest.class, 
+        SpilledQueryResultTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        OrderByLoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
@@ -62,6 +69,7 @@ import org.junit.runners.Suite.SuiteClasses;
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
         TopAndRowNumberDecoratorMergedResultTest.class,
+        DistinctDecoratorMergedResultTest.class,
         DALMergeEngineTest.class,
         ShowCreateTableMergedResultTest.class,
         ShowDatabasesMergedResultTest.class,
@@ -23,6 +23,7 @@ import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.OrderDirection;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.distinct.DistinctDecoratorMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
 import io.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
 import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
@@ -34,6 +35,7 @@ import io.shardingsphere.core.merger.fixture.TestQueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
 import io.shardingsphere.core.parsing.parser.context.limit.Limit;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import io.shardingsphere.core.parsing.parser.context.selectitem.DistinctSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
@@ -45,7 +47,11 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -255,4 +261,44 @@ public final class DQLMergeEngineTest {
         assertThat(actual, instanceOf(TopAndRowNumberDecoratorMergedResult.class));
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
+    
+    @Test
+    public void assertBuildDistinctDecoratorMergedResultForDistinctStar() throws SQLException {
+        selectStatement.getItems().add(new DistinctSelectItem(Collections.<String>emptyList(), Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new OrderItem("id", OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem("name", OrderDirection.ASC, OrderDirection.ASC));
+        mergeEngine = new DQLMergeEngine(Collections.<QueryResult>singletonList(new TestQueryResult(mockDistinctResultSet("id", "name"))), selectStatement);
+        assertThat(mergeEngine.merge(), instanceOf(DistinctDecoratorMergedResult.class));
+    }
+    
+    @Test
+    public void assertMergeDistinctStarWithDerivedOrderByColumn() throws SQLException {
+        selectStatement.getItems().add(new DistinctSelectItem(Collections.<String>emptyList(), Optional.<String>absent()));
+        selectStatement.getOrderByItems().add(new OrderItem("id", OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem("name", OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem("o", "status", OrderDirection.ASC, OrderDirection.ASC, Optional.of("ORDER_BY_DERIVED_0")));
+        ResultSet resultSet = mockDistinctResultSet("id", "name", "ORDER_BY_DERIVED_0");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1, 1);
+        when(resultSet.getObject(2)).thenReturn("a", "a");
+        when(resultSet.getObject(3)).thenReturn("init", "done");
+        mergeEngine = new DQLMergeEngine(Collections.<QueryResult>singletonList(new TestQueryResult(resultSet)), selectStatement);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, not(instanceOf(DistinctDecoratorMergedResult.class)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) "a"));
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet mockDistinctResultSet(final String... columnLabels) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(columnLabels.length);
+        for (int i = 0; i < columnLabels.length; i++) {
+            when(resultSetMetaData.getColumnLabel(i + 1)).thenReturn(columnLabels[i]);
+        }
+        return result;
+    }
 }
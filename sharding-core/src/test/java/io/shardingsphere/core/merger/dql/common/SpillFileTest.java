@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        try (SpillFile actual = new SpillFile()) {
+            for (int i = 0; i < 2000; i++) {
+                actual.write(new Object[] {i, "value_" + i, null});
+            }
+            assertThat(actual.getRowCount(), is(2000));
+            for (int i = 0; i < 2000; i++) {
+                assertThat(actual.read(), is(new Object[] {i, "value_" + i, null}));
+            }
+            assertThat(actual.read(), nullValue());
+        }
+    }
+}
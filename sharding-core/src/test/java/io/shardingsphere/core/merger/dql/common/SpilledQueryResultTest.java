@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.common;
+
+import io.shardingsphere.core.merger.QueryResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SpilledQueryResultTest {
+    
+    private SpillFile spillFile;
+    
+    private SpilledQueryResult spilledQueryResult;
+    
+    @Before
+    public void setUp() throws IOException, SQLException {
+        spillFile = new SpillFile();
+        spillFile.write(new Object[] {1, "value"});
+        QueryResult metaData = mock(QueryResult.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        when(metaData.getColumnLabel(2)).thenReturn("name");
+        spilledQueryResult = new SpilledQueryResult(spillFile, metaData);
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        spillFile.close();
+    }
+    
+    @Test
+    public void assertGetValueByColumnLabel() throws SQLException {
+        assertTrue(spilledQueryResult.next());
+        assertThat((Integer) spilledQueryResult.getValue("id", Object.class), is(1));
+        assertThat((String) spilledQueryResult.getValue("name", Object.class), is("value"));
+        assertFalse(spilledQueryResult.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueByNotExistedColumnLabel() throws SQLException {
+        assertTrue(spilledQueryResult.next());
+        spilledQueryResult.getValue("not_existed", Object.class);
+    }
+}
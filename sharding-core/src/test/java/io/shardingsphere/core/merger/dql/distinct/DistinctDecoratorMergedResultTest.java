@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.distinct;
+
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.merger.MergedResult;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DistinctDecoratorMergedResultTest {
+    
+    @Test
+    public void assertNextForSorted() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 1, 2, 2);
+        when(mergedResult.getValue(2, Object.class)).thenReturn("a", "a", "a", "b");
+        DistinctDecoratorMergedResult actual = new DistinctDecoratorMergedResult(mergedResult, Arrays.asList(1, 2), true);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSortedWithNonAdjacentDuplicatedStrings() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("a", "A", "a");
+        DistinctDecoratorMergedResult actual = new DistinctDecoratorMergedResult(mergedResult, Collections.singletonList(1), true);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForUnsorted() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1, 2, 1, 3);
+        DistinctDecoratorMergedResult actual = new DistinctDecoratorMergedResult(mergedResult, Collections.singletonList(1), false);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForUnsortedWithSpilledRows() throws SQLException {
+        QueryResult queryResult = new MemoryQueryResult(mockResultSet(1, 2, 3, 2, 4, 3, 5), 0);
+        DistinctDecoratorMergedResult actual = new DistinctDecoratorMergedResult(
+                new IteratorStreamMergedResult(Collections.singletonList(queryResult)), Collections.singletonList(1), false, queryResult, 2L);
+        Set<Object> actualValues = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(actual.next());
+            assertTrue(actualValues.add(actual.getValue(1, Object.class)));
+        }
+        assertFalse(actual.next());
+        assertThat(actualValues, is((Set<Object>) new HashSet<Object>(Arrays.asList(1, 2, 3, 4, 5))));
+        actual.close();
+    }
+    
+    @Test
+    public void assertNextWithoutData() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        assertThat(new DistinctDecoratorMergedResult(mergedResult, Collections.singletonList(1), true).next(), is(false));
+    }
+    
+    private ResultSet mockResultSet(final Integer... values) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("col_1");
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        Boolean[] nextResults = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nextResults[i] = i < values.length - 1;
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getObject(1)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+}
@@ -20,28 +20,38 @@ package io.shardingsphere.core.merger.dql.groupby;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import io.shardingsphere.core.constant.AggregationType;
+import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.merger.dql.DQLMergeEngine;
 import io.shardingsphere.core.merger.fixture.TestQueryResult;
 import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import io.shardingsphere.core.parsing.parser.context.limit.Limit;
+import io.shardingsphere.core.parsing.parser.context.limit.LimitValue;
 import io.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import java.io.File;
+import java.io.FilenameFilter;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -129,4 +139,92 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        MergedResult actual = new DQLMergeEngine(createCountQueryResults(), createCountSelectStatement(), 1L).merge();
+        assertCountRows(actual, new int[][] {{1, 5}, {3, 4}, {1, 3}, {3, 2}, {2, 1}});
+    }
+    
+    @Test
+    public void assertCloseWithSpillBeforeAllRowsRead() throws SQLException {
+        int spillFilesCount = getSpillFilesCount();
+        MergedResult actual = new DQLMergeEngine(createCountQueryResults(), createCountSelectStatement(), 1L).merge();
+        assertTrue(getSpillFilesCount() > spillFilesCount);
+        assertTrue(actual.next());
+        ((CloseableMergedResult) actual).close();
+        assertThat(getSpillFilesCount(), is(spillFilesCount));
+    }
+    
+    private int getSpillFilesCount() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-spill-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    @Test
+    public void assertNextWithLimit() throws SQLException {
+        SelectStatement selectStatement = createCountSelectStatement();
+        Limit limit = new Limit(DatabaseType.MySQL);
+        limit.setOffset(new LimitValue(1, -1, true));
+        limit.setRowCount(new LimitValue(2, -1, false));
+        selectStatement.setLimit(limit);
+        MergedResult actual = new DQLMergeEngine(createCountQueryResults(), selectStatement).merge();
+        assertCountRows(actual, new int[][] {{3, 4}, {1, 3}});
+    }
+    
+    private SelectStatement createCountSelectStatement() {
+        SelectStatement result = new SelectStatement();
+        AggregationSelectItem aggregationSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
+        aggregationSelectItem.setIndex(1);
+        result.getItems().add(aggregationSelectItem);
+        result.getGroupByItems().add(new OrderItem(2, OrderDirection.ASC, OrderDirection.ASC));
+        result.getOrderByItems().add(new OrderItem(2, OrderDirection.DESC, OrderDirection.ASC));
+        return result;
+    }
+    
+    private List<QueryResult> createCountQueryResults() throws SQLException {
+        return Lists.<QueryResult>newArrayList(
+                new TestQueryResult(mockResultSet(new Object[][] {{1, 1}, {1, 2}, {1, 3}})), new TestQueryResult(mockResultSet(new Object[][] {{2, 2}, {3, 4}})),
+                new TestQueryResult(mockResultSet(new Object[][] {{1, 5}, {1, 1}})));
+    }
+    
+    private void assertCountRows(final MergedResult actual, final int[][] expected) throws SQLException {
+        for (int[] each : expected) {
+            assertTrue(actual.next());
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(each[0])));
+            assertThat((Integer) actual.getValue(2, Object.class), is(each[1]));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet mockResultSet(final Object[][] rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(resultSetMetaData.getColumnLabel(2)).thenReturn("id");
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < rows.length;
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+        return result;
+    }
 }
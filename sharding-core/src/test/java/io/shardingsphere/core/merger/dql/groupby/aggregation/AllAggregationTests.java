@@ -26,7 +26,8 @@ import org.junit.runners.Suite.SuiteClasses;
         AggregationUnitFactoryTest.class, 
         ComparableAggregationUnitTest.class, 
         AccumulationAggregationUnitTest.class, 
-        AverageAggregationUnitTest.class
+        AverageAggregationUnitTest.class, 
+        NumberAccumulatorTest.class
     })
 public final class AllAggregationTests {
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class NumberAccumulatorTest {
+    
+    @Test
+    public void assertGetResultWithoutValue() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(null);
+        assertThat(actual.getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAddIntegralValues() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(1);
+        actual.add(10L);
+        actual.add((short) 2);
+        assertThat(actual.getResult(), is(new BigDecimal(13)));
+    }
+    
+    @Test
+    public void assertAddWithLongOverflow() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(Long.MAX_VALUE);
+        actual.add(1);
+        actual.add(1);
+        assertThat(actual.getResult(), is(new BigDecimal(Long.MAX_VALUE).add(new BigDecimal(2))));
+    }
+    
+    @Test
+    public void assertAddDecimalValues() {
+        NumberAccumulator actual = new NumberAccumulator();
+        actual.add(1);
+        actual.add(new BigDecimal("1.50"));
+        actual.add(0.25D);
+        actual.add(2);
+        assertThat(actual.getResult(), is(new BigDecimal("4.75")));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.merger.dql.orderby;
+
+import io.shardingsphere.core.constant.OrderDirection;
+import io.shardingsphere.core.merger.QueryResult;
+import io.shardingsphere.core.parsing.parser.context.OrderItem;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByLoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNextForAsc() throws SQLException {
+        OrderByLoserTree actual = new OrderByLoserTree(createOrderByValues(OrderDirection.ASC, new Object[] {1, 4}, new Object[] {2, 3, 6}, new Object[] {5}));
+        assertOrder(actual, 1, 2, 3, 4, 5, 6);
+    }
+    
+    @Test
+    public void assertNextForDesc() throws SQLException {
+        OrderByLoserTree actual = new OrderByLoserTree(createOrderByValues(OrderDirection.DESC, new Object[] {6L, 2L}, new Object[] {5L, 4L, 1L}, new Object[] {3L}));
+        assertOrder(actual, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+    
+    private List<OrderByValue> createOrderByValues(final OrderDirection orderDirection, final Object[]... values) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(values.length);
+        for (final Object[] each : values) {
+            QueryResult queryResult = mock(QueryResult.class);
+            final AtomicInteger cursor = new AtomicInteger(-1);
+            when(queryResult.next()).thenAnswer(new Answer<Boolean>() {
+                
+                @Override
+                public Boolean answer(final InvocationOnMock invocation) {
+                    return cursor.incrementAndGet() < each.length;
+                }
+            });
+            when(queryResult.getValue(1, Object.class)).thenAnswer(new Answer<Object>() {
+                
+                @Override
+                public Object answer(final InvocationOnMock invocation) {
+                    return each[cursor.get()];
+                }
+            });
+            OrderByValue orderByValue = new OrderByValue(queryResult, Collections.singletonList(new OrderItem(1, orderDirection, OrderDirection.ASC)));
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private void assertOrder(final OrderByLoserTree actual, final Object... expected) throws SQLException {
+        for (int i = 0; i < expected.length; i++) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(expected[i]));
+            assertThat(actual.next(), is(i < expected.length - 1));
+        }
+        assertTrue(actual.isEmpty());
+    }
+}
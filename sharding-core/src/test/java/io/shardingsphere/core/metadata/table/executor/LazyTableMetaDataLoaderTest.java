@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.executor;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class LazyTableMetaDataLoaderTest {
+    
+    private ShardingRule shardingRule;
+    
+    private TableMetaDataLoader tableMetaDataLoader;
+    
+    private TableMetaData tableMetaData;
+    
+    private LazyTableMetaDataLoader lazyLoader;
+    
+    @Before
+    public void setUp() throws SQLException {
+        tableMetaDataLoader = mock(TableMetaDataLoader.class);
+        shardingRule = getShardingRule();
+        tableMetaData = new TableMetaData(Collections.singletonList(new ColumnMetaData("config_id", "int", true)));
+        when(tableMetaDataLoader.load("t_config", shardingRule)).thenReturn(tableMetaData);
+        when(tableMetaDataLoader.load("t_absent", shardingRule)).thenReturn(new TableMetaData(Collections.<ColumnMetaData>emptyList()));
+        when(tableMetaDataLoader.load("t_error", shardingRule)).thenThrow(new SQLException("error"));
+        when(tableMetaDataLoader.loadTableNames("ds_0", shardingRule)).thenReturn(Collections.singleton("t_config"));
+        lazyLoader = new LazyTableMetaDataLoader(shardingRule, tableMetaDataLoader);
+    }
+    
+    private ShardingRule getShardingRule() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes("ds_${0..1}.t_order_${0..1}");
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDataSourceName("ds_0");
+        return new ShardingRule(shardingRuleConfig, Lists.newArrayList("ds_0", "ds_1"));
+    }
+    
+    @Test
+    public void assertLoadExistedTableOnlyOnce() throws SQLException {
+        Optional<TableMetaData> actual = lazyLoader.load("t_config");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(tableMetaData));
+        assertThat(lazyLoader.load("t_config").get(), is(tableMetaData));
+        verify(tableMetaDataLoader, times(1)).load("t_config", shardingRule);
+    }
+    
+    @Test
+    public void assertLoadAbsentTableOnlyOnce() throws SQLException {
+        assertFalse(lazyLoader.load("t_absent").isPresent());
+        assertFalse(lazyLoader.load("t_absent").isPresent());
+        verify(tableMetaDataLoader, times(1)).load("t_absent", shardingRule);
+    }
+    
+    @Test
+    public void assertLoadShardingTable() throws SQLException {
+        assertFalse(lazyLoader.load("T_ORDER").isPresent());
+        verify(tableMetaDataLoader, never()).load(anyString(), any(ShardingRule.class));
+    }
+    
+    @Test
+    public void assertLoadAfterEvicted() throws SQLException {
+        assertFalse(lazyLoader.load("t_absent").isPresent());
+        lazyLoader.evict("t_absent");
+        assertFalse(lazyLoader.load("t_absent").isPresent());
+        verify(tableMetaDataLoader, times(2)).load("t_absent", shardingRule);
+    }
+    
+    @Test
+    public void assertExistsWithoutLoadingColumns() throws SQLException {
+        assertTrue(lazyLoader.exists("t_config"));
+        assertFalse(lazyLoader.exists("t_other"));
+        assertFalse(lazyLoader.exists("t_order"));
+        verify(tableMetaDataLoader, times(1)).loadTableNames("ds_0", shardingRule);
+        verify(tableMetaDataLoader, never()).load(anyString(), any(ShardingRule.class));
+    }
+    
+    @Test
+    public void assertExistsAfterLoaded() throws SQLException {
+        assertFalse(lazyLoader.load("t_absent").isPresent());
+        assertFalse(lazyLoader.exists("t_absent"));
+        verify(tableMetaDataLoader, never()).loadTableNames(anyString(), any(ShardingRule.class));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertLoadFailure() {
+        lazyLoader.load("t_error");
+    }
+}
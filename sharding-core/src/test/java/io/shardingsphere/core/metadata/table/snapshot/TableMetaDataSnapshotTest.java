@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.metadata.table.snapshot;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.api.config.TableRuleConfiguration;
+import io.shardingsphere.core.metadata.table.ColumnMetaData;
+import io.shardingsphere.core.metadata.table.TableMetaData;
+import io.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataSnapshotTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private String directory;
+    
+    private Map<String, String> dataSourceURLs;
+    
+    private Map<String, TableMetaData> tableMetaDataMap;
+    
+    @Before
+    public void setUp() throws IOException {
+        directory = temporaryFolder.newFolder().getPath();
+        dataSourceURLs = new HashMap<>(2, 1);
+        dataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/db_0");
+        dataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.1:3306/db_1");
+        tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Lists.newArrayList(new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false))));
+        tableMetaDataMap.put("t_config", new TableMetaData(Collections.<ColumnMetaData>emptyList()));
+    }
+    
+    private ShardingRule getShardingRule(final String actualDataNodes) {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("t_order");
+        tableRuleConfig.setActualDataNodes(actualDataNodes);
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        shardingRuleConfig.setDefaultDataSourceName("ds_0");
+        return new ShardingRule(shardingRuleConfig, Lists.newArrayList("ds_0", "ds_1"));
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshot() {
+        assertFalse(new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}")).load().isPresent());
+    }
+    
+    @Test
+    public void assertSaveAndLoad() {
+        new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}")).save(tableMetaDataMap);
+        Optional<Map<String, TableMetaData>> actual = new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}")).load();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(tableMetaDataMap));
+    }
+    
+    @Test
+    public void assertLoadWithChangedActualDataNodes() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}"));
+        snapshot.save(tableMetaDataMap);
+        TableMetaDataSnapshot actual = new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..2}"));
+        assertThat(actual.getFile(), is(snapshot.getFile()));
+        assertFalse(actual.load().isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithChangedDataSourceURLs() {
+        new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}")).save(tableMetaDataMap);
+        dataSourceURLs.put("ds_1", "jdbc:mysql://127.0.0.2:3306/db_1");
+        assertFalse(new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}")).load().isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithOtherSchema() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}"));
+        snapshot.save(tableMetaDataMap);
+        TableMetaDataSnapshot actual = new TableMetaDataSnapshot(directory, "other_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..2}"));
+        assertThat(actual.getFile(), not(snapshot.getFile()));
+        assertFalse(actual.load().isPresent());
+        assertTrue(snapshot.load().isPresent());
+    }
+    
+    @Test
+    public void assertInvalidate() {
+        TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(directory, "sharding_db", dataSourceURLs, getShardingRule("ds_${0..1}.t_order_${0..1}"));
+        snapshot.save(tableMetaDataMap);
+        assertTrue(snapshot.getFile().isFile());
+        snapshot.invalidate();
+        assertFalse(snapshot.getFile().exists());
+        assertFalse(snapshot.load().isPresent());
+    }
+}
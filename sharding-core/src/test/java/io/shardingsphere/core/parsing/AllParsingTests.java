@@ -17,8 +17,10 @@
 
 package io.shardingsphere.core.parsing;
 
+import io.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
 import io.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import io.shardingsphere.core.parsing.lexer.AllLexerTests;
+import io.shardingsphere.core.parsing.parameterize.SQLParameterizeEngineTest;
 import io.shardingsphere.core.parsing.parser.constant.DerivedColumnTest;
 import io.shardingsphere.core.parsing.parser.context.OrderItemTest;
 import io.shardingsphere.core.parsing.parser.sql.AllSQLTests;
@@ -33,6 +35,8 @@ import org.junit.runners.Suite.SuiteClasses;
         SQLJudgeEngineTest.class, 
         OrderItemTest.class,
         DerivedColumnTest.class, 
+        ParsingResultCacheTest.class, 
+        SQLParameterizeEngineTest.class, 
         AllParsingIntegrateTests.class
     })
 public final class AllParsingTests {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.cache;
+
+import io.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParsingResultCacheTest {
+    
+    @Test
+    public void assertGetSQLStatement() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        SQLStatement sqlStatement = new SelectStatement();
+        parsingResultCache.put("SELECT * FROM t_order", sqlStatement);
+        assertThat(parsingResultCache.getSQLStatement("SELECT * FROM t_order").get(), is(sqlStatement));
+        assertFalse(parsingResultCache.getSQLStatement("SELECT * FROM t_order_item").isPresent());
+        assertThat(parsingResultCache.getStats().hitCount(), is(1L));
+        assertThat(parsingResultCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictWhenReachMaximumSize() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(1);
+        parsingResultCache.put("SELECT * FROM t_order", new SelectStatement());
+        parsingResultCache.put("SELECT * FROM t_order_item", new SelectStatement());
+        assertThat(parsingResultCache.size(), is(1L));
+        assertTrue(parsingResultCache.getSQLStatement("SELECT * FROM t_order_item").isPresent());
+        assertThat(parsingResultCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache parsingResultCache = new ParsingResultCache(16);
+        parsingResultCache.put("SELECT * FROM t_order", new SelectStatement());
+        parsingResultCache.clear();
+        assertFalse(parsingResultCache.getSQLStatement("SELECT * FROM t_order").isPresent());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithInvalidMaximumSize() {
+        new ParsingResultCache(0);
+    }
+}
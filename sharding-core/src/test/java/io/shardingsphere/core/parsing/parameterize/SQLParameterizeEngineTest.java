@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.parsing.parameterize;
+
+import com.google.common.base.Optional;
+import io.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParameterizeEngineTest {
+    
+    private final SQLParameterizeEngine parameterizeEngine = new SQLParameterizeEngine(DatabaseType.MySQL);
+    
+    @Test
+    public void assertParameterizeForConditions() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("SELECT * FROM t_order WHERE user_id = 10 AND status = 'init'");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init")));
+        assertThat(actual.get().getLiterals(), is(Arrays.asList("10", "'init'")));
+    }
+    
+    @Test
+    public void assertParameterizeForInAndBetween() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("SELECT * FROM t_order WHERE order_id IN (1, 2) AND user_id BETWEEN 3 AND 4");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) AND user_id BETWEEN ? AND ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4)));
+    }
+    
+    @Test
+    public void assertParameterizeForInsertValues() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("INSERT INTO t_order (order_id, user_id) VALUES (1, 2), (3, 4)");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4)));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutChangeLimitAndFunctionArguments() {
+        Optional<ParameterizedSQL> actual = parameterizeEngine.parameterize("SELECT SUBSTR(status, 1, 2) FROM t_order WHERE user_id = 10 LIMIT 5, 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT SUBSTR(status, 1, 2) FROM t_order WHERE user_id = ? LIMIT 5, 10"));
+    }
+    
+    @Test
+    public void assertParameterizeWithPlaceholder() {
+        assertFalse(parameterizeEngine.parameterize("SELECT * FROM t_order WHERE user_id = 10 AND order_id = ?").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeWithoutLiterals() {
+        assertFalse(parameterizeEngine.parameterize("SELECT * FROM t_order").isPresent());
+    }
+    
+    @Test
+    public void assertParameterizeForNotDML() {
+        assertFalse(parameterizeEngine.parameterize("SHOW TABLES LIKE 't_order'").isPresent());
+    }
+    
+    @Test
+    public void assertRestore() {
+        ParameterizedSQL parameterizedSQL = parameterizeEngine.parameterize("SELECT * FROM t_order WHERE user_id = 10 AND status = 'init'").get();
+        assertThat(parameterizeEngine.restore("SELECT * FROM t_order_0 WHERE user_id = ? AND status = ? AND remark <> '?'", parameterizedSQL.getParameters(), parameterizedSQL),
+                is("SELECT * FROM t_order_0 WHERE user_id = 10 AND status = 'init' AND remark <> '?'"));
+    }
+    
+    @Test
+    public void assertRestoreWithEqualValuesOfDifferentLiterals() {
+        ParameterizedSQL parameterizedSQL = parameterizeEngine.parameterize("SELECT * FROM t_order WHERE price = 1.0 OR price = 1.00").get();
+        assertThat(parameterizeEngine.restore(parameterizedSQL.getSql(), parameterizedSQL.getParameters(), parameterizedSQL), is("SELECT * FROM t_order WHERE price = 1.0 OR price = 1.00"));
+    }
+    
+    @Test
+    public void assertRestoreWithPartOfParameters() {
+        ParameterizedSQL parameterizedSQL = parameterizeEngine.parameterize("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, 'b')").get();
+        List<Object> parameters = Arrays.asList(parameterizedSQL.getParameters().get(2), parameterizedSQL.getParameters().get(3));
+        assertThat(parameterizeEngine.restore("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)", parameters, parameterizedSQL), is("INSERT INTO t_order_0 (order_id, status) VALUES (2, 'b')"));
+    }
+    
+    @Test
+    public void assertRestoreWithParameterNotInLiterals() {
+        ParameterizedSQL parameterizedSQL = parameterizeEngine.parameterize("SELECT * FROM t_order WHERE status = 'init'").get();
+        List<Object> parameters = Arrays.<Object>asList(parameterizedSQL.getParameters().get(0), 20, "it's");
+        assertThat(parameterizeEngine.restore("SELECT * FROM t_order WHERE status = ? AND user_id = ? AND remark = ?", parameters, parameterizedSQL),
+                is("SELECT * FROM t_order WHERE status = 'init' AND user_id = 20 AND remark = 'it''s'"));
+    }
+}
@@ -25,6 +25,7 @@ import io.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
 import io.shardingsphere.core.rewrite.placeholder.IndexPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.SchemaPlaceholder;
 import io.shardingsphere.core.rewrite.placeholder.TablePlaceholder;
+import io.shardingsphere.core.routing.SQLUnit;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
 import org.junit.Test;
@@ -62,6 +63,20 @@ public final class SQLBuilderTest {
         assertThat(sqlBuilder.toSQL(null, Collections.<String, String>emptyMap(), null, null).getSql(), is("SELECT table_x.id FROM table_x"));
     }
     
+    @Test
+    public void assertBindParameters() {
+        SQLBuilder sqlBuilder = new SQLBuilder(Collections.<Object>singletonList(1));
+        sqlBuilder.appendLiterals("SELECT * FROM ");
+        sqlBuilder.appendPlaceholder(new TablePlaceholder("table_x", "table_x"));
+        sqlBuilder.appendLiterals(" WHERE id = ?");
+        Map<String, String> tableTokens = new HashMap<>(1, 1);
+        tableTokens.put("table_x", "table_x_1");
+        SQLUnit actual = sqlBuilder.bind(Collections.<Object>singletonList(2)).toSQL(null, tableTokens, null, null);
+        assertThat(actual.getSql(), is("SELECT * FROM table_x_1 WHERE id = ?"));
+        assertThat(actual.getParameterSets().get(0), is(Collections.<Object>singletonList(2)));
+        assertThat(sqlBuilder.toSQL(null, tableTokens, null, null).getParameterSets().get(0), is(Collections.<Object>singletonList(1)));
+    }
+    
     @Test
     public void assertAppendTableWithoutTableToken() {
         SQLBuilder sqlBuilder = new SQLBuilder();
@@ -17,7 +17,9 @@
 
 package io.shardingsphere.core.routing;
 
+import io.shardingsphere.core.routing.cache.RouteResultCacheTest;
 import io.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import io.shardingsphere.core.routing.strategy.inline.InlineShardingExpressionTest;
 import io.shardingsphere.core.routing.type.broadcast.DatabaseBroadcastRoutingEngineTest;
 import io.shardingsphere.core.routing.type.broadcast.TableBroadcastRoutingEngineTest;
 import io.shardingsphere.core.routing.type.defaultdb.DefaultDatabaseRoutingEngineTest;
@@ -31,7 +33,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         DatabaseTest.class,
+        RouteResultCacheTest.class,
         DatabaseHintSQLRouterTest.class,
+        InlineShardingExpressionTest.class,
         DatabaseBroadcastRoutingEngineTest.class,
         TableBroadcastRoutingEngineTest.class,
         DefaultDatabaseRoutingEngineTest.class,
@@ -27,7 +27,9 @@ import io.shardingsphere.api.config.strategy.HintShardingStrategyConfiguration;
 import io.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.fixture.OrderDatabaseHintShardingAlgorithm;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
 import io.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
 import org.junit.Test;
@@ -75,7 +77,7 @@ public final class DatabaseTest {
     @Test
     public void assertDatabaseAllRoutingSQL() {
         String originSQL = "select * from tesT";
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSQL);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(64)).route(originSQL);
         assertThat(actual.getRouteUnits().size(), is(1));
         Set<String> actualDataSources = new HashSet<>(Collections2.transform(actual.getRouteUnits(), new Function<RouteUnit, String>() {
         
@@ -99,12 +101,12 @@ public final class DatabaseTest {
     @Test
     public void assertDatabaseSelectSQLPagination() {
         String originSQL = "select user_id from tbl_pagination limit 0,5";
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSQL);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(64)).route(originSQL);
         SelectStatement stmt = (SelectStatement) actual.getSqlStatement();
         assertThat(stmt.getLimit().getOffsetValue(), is(0));
         assertThat(stmt.getLimit().getRowCountValue(), is(5));
         originSQL = "select user_id from tbl_pagination limit 5,5";
-        actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSQL);
+        actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(64)).route(originSQL);
         stmt = (SelectStatement) actual.getSqlStatement();
         assertThat(stmt.getLimit().getOffsetValue(), is(5));
         assertThat(stmt.getLimit().getRowCountValue(), is(5));
@@ -125,21 +127,74 @@ public final class DatabaseTest {
         shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
         ShardingRule rule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
         String originSQL = "select city_id from user where city_id in (?,?) limit 5,10";
-        SQLRouteResult actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null).route(Lists.<Object>newArrayList(13, 173));
+        SQLRouteResult actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(64)).route(Lists.<Object>newArrayList(13, 173));
         SelectStatement selectStatement = (SelectStatement) actual.getSqlStatement();
         assertThat(selectStatement.getLimit().getOffsetValue(), is(5));
         assertThat(selectStatement.getLimit().getRowCountValue(), is(10));
         assertThat(actual.getRouteUnits().size(), is(1));
         originSQL = "select city_id from user where city_id in (?,?) limit 5,10";
-        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null).route(Lists.<Object>newArrayList(89, 84));
+        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(64)).route(Lists.<Object>newArrayList(89, 84));
         selectStatement = (SelectStatement) actual.getSqlStatement();
         assertThat(selectStatement.getLimit().getOffsetValue(), is(5));
         assertThat(selectStatement.getLimit().getRowCountValue(), is(10));
         assertThat(actual.getRouteUnits().size(), is(2));
     }
     
+    @Test
+    public void assertDatabaseParameterizedSelectSQL() {
+        Map<String, DataSource> dataSourceMap = new HashMap<>();
+        dataSourceMap.put("user_db1", null);
+        dataSourceMap.put("user_db2", null);
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("user");
+        tableRuleConfig.setActualDataNodes("user_db${1..2}.user");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("city_id", "user_db${city_id % 2 + 1}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule rule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
+        ParsingResultCache parsingResultCache = new ParsingResultCache(64);
+        SQLRouteResult actual = new StatementRoutingEngine(rule, null, DatabaseType.MySQL, false, null, parsingResultCache, true).route("select city_id from user where city_id = 13");
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getDataSourceName(), is("user_db2"));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getSql(), is("select city_id from user where city_id = 13"));
+        actual = new StatementRoutingEngine(rule, null, DatabaseType.MySQL, false, null, parsingResultCache, true).route("select city_id from user where city_id = 84");
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getDataSourceName(), is("user_db1"));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getSql(), is("select city_id from user where city_id = 84"));
+        assertThat(parsingResultCache.size(), is(1L));
+    }
+    
+    @Test
+    public void assertDatabasePrepareSelectSQLWithRouteResultCache() {
+        Map<String, DataSource> dataSourceMap = new HashMap<>();
+        dataSourceMap.put("user_db1", null);
+        dataSourceMap.put("user_db2", null);
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("user");
+        tableRuleConfig.setActualDataNodes("user_db${1..2}.user");
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("city_id", "user_db${city_id % 2 + 1}"));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        ShardingRule rule = new ShardingRule(shardingRuleConfig, dataSourceMap.keySet());
+        String originSQL = "select city_id from user where city_id = ? and name = ?";
+        ParsingResultCache parsingResultCache = new ParsingResultCache(64);
+        RouteResultCache routeResultCache = new RouteResultCache(64);
+        SQLRouteResult actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routeResultCache)
+                .route(Lists.<Object>newArrayList(13, "foo"));
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getDataSourceName(), is("user_db2"));
+        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routeResultCache).route(Lists.<Object>newArrayList(13, "bar"));
+        assertThat(actual.getRouteUnits().size(), is(1));
+        assertThat(actual.getRouteUnits().iterator().next().getDataSourceName(), is("user_db2"));
+        assertThat(actual.getRouteUnits().iterator().next().getSqlUnit().getParameterSets().get(0), is(Lists.<Object>newArrayList(13, "bar")));
+        assertThat(routeResultCache.getStats().hitCount(), is(1L));
+        actual = new PreparedStatementRoutingEngine(originSQL, rule, null, DatabaseType.MySQL, false, null, parsingResultCache, routeResultCache).route(Lists.<Object>newArrayList(84, "bar"));
+        assertThat(actual.getRouteUnits().iterator().next().getDataSourceName(), is("user_db1"));
+        assertThat(routeResultCache.size(), is(2L));
+    }
+    
     private void assertTarget(final String originSql, final String targetDataSource) {
-        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null).route(originSql);
+        SQLRouteResult actual = new StatementRoutingEngine(shardingRule, null, DatabaseType.MySQL, false, null, new ParsingResultCache(64)).route(originSql);
         assertThat(actual.getRouteUnits().size(), is(1));
         Set<String> actualDataSources = new HashSet<>(Collections2.transform(actual.getRouteUnits(), new Function<RouteUnit, String>() {
             
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.cache;
+
+import io.shardingsphere.core.routing.RouteUnit;
+import io.shardingsphere.core.routing.SQLUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RouteResultCacheTest {
+    
+    private final Collection<RouteUnit> routeUnits = Collections.singletonList(new RouteUnit("ds_0", new SQLUnit("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.<List<Object>>emptyList())));
+    
+    @Test
+    public void assertGetRouteUnits() {
+        RouteResultCache routeResultCache = new RouteResultCache(16);
+        assertTrue(routeResultCache.isEnabled());
+        routeResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(10), routeUnits);
+        assertThat(routeResultCache.getRouteUnits("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(10)).get(), is(routeUnits));
+        assertFalse(routeResultCache.getRouteUnits("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(11)).isPresent());
+        assertFalse(routeResultCache.getRouteUnits("SELECT * FROM t_order WHERE order_id = ? AND user_id = ?", Arrays.<Object>asList(10, 1)).isPresent());
+        assertThat(routeResultCache.getStats().hitCount(), is(1L));
+        assertThat(routeResultCache.getStats().missCount(), is(2L));
+    }
+    
+    @Test
+    public void assertDisabled() {
+        RouteResultCache routeResultCache = new RouteResultCache(0);
+        assertFalse(routeResultCache.isEnabled());
+        routeResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(10), routeUnits);
+        assertThat(routeResultCache.size(), is(0L));
+    }
+    
+    @Test
+    public void assertClear() {
+        RouteResultCache routeResultCache = new RouteResultCache(16);
+        routeResultCache.put("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(10), routeUnits);
+        routeResultCache.clear();
+        assertFalse(routeResultCache.getRouteUnits("SELECT * FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(10)).isPresent());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.routing.strategy.inline;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingExpressionTest {
+    
+    @Test
+    public void assertEvaluateModuloExpression() {
+        InlineShardingExpression expression = new InlineShardingExpression("order_id", "t_order_${order_id % 16}");
+        assertThat(expression.evaluate(17), is("t_order_1"));
+        assertThat(expression.evaluate(31L), is("t_order_15"));
+        assertThat(expression.evaluate(-17), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateModuloExpressionWithLargeModulo() {
+        InlineShardingExpression expression = new InlineShardingExpression("order_id", "t_order_${order_id % 100000}_suffix");
+        assertThat(expression.evaluate(100001L), is("t_order_1_suffix"));
+    }
+    
+    @Test
+    public void assertEvaluateIdentityExpression() {
+        InlineShardingExpression expression = new InlineShardingExpression("ORDER_ID", "t_order_${order_id}");
+        assertThat(expression.evaluate(10), is("t_order_10"));
+        assertThat(expression.evaluate("foo"), is("t_order_foo"));
+    }
+    
+    @Test
+    public void assertEvaluateComplexExpression() {
+        InlineShardingExpression expression = new InlineShardingExpression("order_id", "t_order_${order_id.hashCode() % 2}");
+        assertThat(expression.evaluate(3), is("t_order_1"));
+        assertThat(expression.evaluate(4), is("t_order_0"));
+    }
+    
+    @Test
+    public void assertEvaluateModuloExpressionWithDecimalValue() {
+        InlineShardingExpression expression = new InlineShardingExpression("order_id", "t_order_${order_id % 2}");
+        assertThat(expression.evaluate(3.0D), is("t_order_1.0"));
+    }
+}
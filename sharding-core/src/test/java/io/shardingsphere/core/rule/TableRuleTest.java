@@ -30,6 +30,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -98,6 +99,16 @@ public final class TableRuleTest {
         assertThat(actual.getActualTableNames("ds2"), is((Collection<String>) Collections.<String>emptySet()));
     }
     
+    @Test
+    public void assertGetActualDataNode() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
+        tableRuleConfig.setLogicTable("LOGIC_TABLE");
+        tableRuleConfig.setActualDataNodes("ds${0..1}.table_${0..2}");
+        TableRule actual = new TableRule(tableRuleConfig, createShardingDataSourceNames());
+        assertThat(actual.getActualDataNode("ds1", "table_1"), sameInstance(actual.getActualDataNodes().get(4)));
+        assertThat(actual.getActualDataNode("ds2", "table_1"), is(new DataNode("ds2", "table_1")));
+    }
+    
     @Test
     public void assertFindActualTableIndex() {
         TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration();
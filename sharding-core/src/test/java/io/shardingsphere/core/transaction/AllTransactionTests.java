@@ -22,6 +22,10 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(TransactionTypeHolderTest.class)
+@SuiteClasses({
+        TransactionTypeHolderTest.class, 
+        TransactionLatencyHistogramTest.class, 
+        LocalTransactionExecutorTest.class
+})
 public final class AllTransactionTests {
 }
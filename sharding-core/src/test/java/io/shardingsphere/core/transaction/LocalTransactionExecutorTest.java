@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.transaction;
+
+import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class LocalTransactionExecutorTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(2);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertCommitInParallel() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        LocalTransactionExecutor actual = new LocalTransactionExecutor(executeEngine, true, 0);
+        actual.commit(Arrays.asList(connection1, connection2));
+        verify(connection1).commit();
+        verify(connection2).commit();
+        assertThat(actual.getLatencyHistogram().getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertRollbackInSerial() throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        LocalTransactionExecutor actual = new LocalTransactionExecutor(executeEngine, false, 0);
+        actual.rollback(Arrays.asList(connection1, connection2));
+        verify(connection1).rollback();
+        verify(connection2).rollback();
+        assertThat(actual.getLatencyHistogram().getCount(), is(1L));
+    }
+    
+    @Test
+    public void assertCommitWithLatencyLogInterval() throws SQLException {
+        Connection connection = mock(Connection.class);
+        LocalTransactionExecutor actual = new LocalTransactionExecutor(executeEngine, false, 2);
+        actual.commit(Arrays.asList(connection));
+        actual.commit(Arrays.asList(connection));
+        actual.commit(Arrays.asList(connection));
+        verify(connection, times(3)).commit();
+        assertThat(actual.getLatencyHistogram().getCount(), is(3L));
+    }
+    
+    @Test
+    public void assertCommitInParallelWithException() throws SQLException {
+        assertCommitWithException(true);
+    }
+    
+    @Test
+    public void assertCommitInSerialWithException() throws SQLException {
+        assertCommitWithException(false);
+    }
+    
+    private void assertCommitWithException(final boolean parallel) throws SQLException {
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Connection connection3 = mock(Connection.class);
+        SQLException exception1 = new SQLException("commit failure 1");
+        SQLException exception3 = new SQLException("commit failure 3");
+        doThrow(exception1).when(connection1).commit();
+        doThrow(exception3).when(connection3).commit();
+        try {
+            new LocalTransactionExecutor(executeEngine, parallel, 0).commit(Arrays.asList(connection1, connection2, connection3));
+            fail("SQLException should be thrown.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getNextException(), is(exception1));
+            assertThat(ex.getNextException().getNextException(), is(exception3));
+        }
+        verify(connection2).commit();
+    }
+}
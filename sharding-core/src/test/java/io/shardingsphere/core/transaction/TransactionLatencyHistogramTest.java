@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.core.transaction;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class TransactionLatencyHistogramTest {
+    
+    @Test
+    public void assertRecord() {
+        TransactionLatencyHistogram actual = new TransactionLatencyHistogram();
+        actual.record(500L);
+        actual.record(TimeUnit.MICROSECONDS.toNanos(3L));
+        actual.record(TimeUnit.MICROSECONDS.toNanos(4L));
+        assertThat(actual.getCount(), is(3L));
+        assertThat(actual.getBucketCount(0), is(1L));
+        assertThat(actual.getBucketCount(2), is(1L));
+        assertThat(actual.getBucketCount(3), is(1L));
+    }
+    
+    @Test
+    public void assertRecordWithOverflow() {
+        TransactionLatencyHistogram actual = new TransactionLatencyHistogram();
+        actual.record(Long.MAX_VALUE);
+        assertThat(actual.getBucketCount(31), is(1L));
+    }
+    
+    @Test
+    public void assertGetPercentileMicros() {
+        TransactionLatencyHistogram actual = new TransactionLatencyHistogram();
+        assertThat(actual.getPercentileMicros(99), is(0L));
+        for (int i = 0; i < 99; i++) {
+            actual.record(TimeUnit.MICROSECONDS.toNanos(100L));
+        }
+        actual.record(TimeUnit.MILLISECONDS.toNanos(100L));
+        assertThat(actual.getPercentileMicros(50), is(128L));
+        assertThat(actual.getPercentileMicros(99), is(128L));
+        assertThat(actual.getPercentileMicros(100), is(131072L));
+    }
+}
@@ -19,6 +19,7 @@ package io.shardingsphere.shardingjdbc.executor;
 
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
@@ -26,7 +27,13 @@ import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.ReadAheadQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.StatisticsQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatistics;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -65,6 +72,12 @@ public class AbstractStatementExecutor {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final QueryResultStatistics queryResultStatistics;
+    
+    private final int streamReadAheadRows;
+    
+    private final int maxMemoryRowsPerQueryResult;
+    
     private final Collection<Connection> connections = new LinkedList<>();
     
     @Getter
@@ -76,6 +89,8 @@ public class AbstractStatementExecutor {
     @Getter
     private final List<ResultSet> resultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<ReadAheadQueryResult> readAheadQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
     
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
@@ -86,8 +101,34 @@ public class AbstractStatementExecutor {
         this.connection = shardingConnection;
         int maxConnectionsSizePerQuery = connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         ShardingExecuteEngine executeEngine = connection.getShardingContext().getExecuteEngine();
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+        queryResultStatistics = connection.getShardingContext().getQueryResultStatistics();
+        streamReadAheadRows = connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.STREAM_READ_AHEAD_ROWS);
+        maxMemoryRowsPerQueryResult = connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_MEMORY_ROWS_PER_QUERY_RESULT);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, queryResultStatistics);
+        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, connection.getShardingContext().getExecuteBulkhead());
+    }
+    
+    protected final QueryResult createQueryResult(final StatementExecuteUnit statementExecuteUnit, final ResultSet resultSet, final long startNanos) throws SQLException {
+        String sql = statementExecuteUnit.getRouteUnit().getSqlUnit().getSql();
+        if (ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode()) {
+            QueryResult result = createStreamQueryResult(resultSet);
+            return queryResultStatistics.isEnabled() ? new StatisticsQueryResult(result, sql, queryResultStatistics, System.nanoTime() - startNanos) : result;
+        }
+        resultSets.add(resultSet);
+        MemoryQueryResult result = new MemoryQueryResult(resultSet, maxMemoryRowsPerQueryResult);
+        queryResultStatistics.record(sql, result.getRowCount(), System.nanoTime() - startNanos);
+        return result;
+    }
+    
+    private QueryResult createStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        if (0 == streamReadAheadRows) {
+            resultSets.add(resultSet);
+            return new StreamQueryResult(resultSet);
+        }
+        ReadAheadQueryResult result = new ReadAheadQueryResult(resultSet, streamReadAheadRows, connection.getShardingContext().getExecuteEngine());
+        readAheadQueryResults.add(result);
+        resultSets.add(result.getResultSet());
+        return result;
     }
     
     protected final void cacheStatements() {
@@ -114,12 +155,27 @@ public class AbstractStatementExecutor {
         return sqlExecuteTemplate.executeGroup((Collection) executeGroups, executeCallback);
     }
     
+    /**
+     * Stop workers of read ahead query results.
+     *
+     * <p>
+     * Should be invoked before routed statements closed, otherwise workers may still fetch from closed result sets.
+     * </p>
+     */
+    public void closeReadAheadQueryResults() {
+        for (ReadAheadQueryResult each : readAheadQueryResults) {
+            each.close();
+        }
+        readAheadQueryResults.clear();
+    }
+    
     /**
      * Clear data.
      *
      * @throws SQLException sql exception
      */
     public void clear() throws SQLException {
+        closeReadAheadQueryResults();
         clearStatements();
         statements.clear();
         parameterSets.clear();
@@ -21,8 +21,6 @@ import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.executor.ShardingExecuteGroup;
 import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
-import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
-import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import io.shardingsphere.core.merger.QueryResult;
@@ -110,9 +108,9 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
     
     private QueryResult getQueryResult(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) statementExecuteUnit.getStatement();
+        long startNanos = System.nanoTime();
         ResultSet resultSet = preparedStatement.executeQuery();
-        getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return createQueryResult(statementExecuteUnit, resultSet, startNanos);
     }
     
     /**
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.adapter;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
@@ -26,11 +27,13 @@ import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.event.transaction.ShardingTransactionEvent;
 import io.shardingsphere.core.event.transaction.base.SagaTransactionEvent;
 import io.shardingsphere.core.event.transaction.xa.XATransactionEvent;
+import io.shardingsphere.core.executor.connection.BulkConnectionAcquirer;
 import io.shardingsphere.core.hint.HintManagerHolder;
 import io.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
 import io.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationConnection;
+import io.shardingsphere.core.transaction.LocalTransactionExecutor;
 import io.shardingsphere.core.transaction.TransactionTypeHolder;
 import io.shardingsphere.spi.root.RootInvokeHook;
 import io.shardingsphere.spi.root.SPIRootInvokeHook;
@@ -122,13 +125,13 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         } else if (!connections.isEmpty()) {
             result = new ArrayList<>(connectionSize);
             result.addAll(connections);
-            List<Connection> newConnections = createConnections(connectionMode, dataSource, connectionSize - connections.size());
+            List<Connection> newConnections = createConnections(connectionMode, dataSourceName, dataSource, connectionSize - connections.size(), true);
             result.addAll(newConnections);
             synchronized (cachedConnections) {
                 cachedConnections.putAll(dataSourceName, newConnections);
             }
         } else {
-            result = new ArrayList<>(createConnections(connectionMode, dataSource, connectionSize));
+            result = new ArrayList<>(createConnections(connectionMode, dataSourceName, dataSource, connectionSize, false));
             synchronized (cachedConnections) {
                 cachedConnections.putAll(dataSourceName, result);
             }
@@ -137,7 +140,15 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     }
     
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
-    private List<Connection> createConnections(final ConnectionMode connectionMode, final DataSource dataSource, final int connectionSize) throws SQLException {
+    private List<Connection> createConnections(
+            final ConnectionMode connectionMode, final String dataSourceName, final DataSource dataSource, final int connectionSize, final boolean holding) throws SQLException {
+        if (getBulkConnectionAcquirer().isPresent()) {
+            List<Connection> result = getBulkConnectionAcquirer().get().acquire(dataSourceName, dataSource, connectionSize, holding);
+            for (Connection each : result) {
+                replayMethodsInvocation(each);
+            }
+            return result;
+        }
         if (1 == connectionSize) {
             return Collections.singletonList(createConnection(dataSource));
         }
@@ -165,6 +176,24 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     protected abstract Map<String, DataSource> getDataSourceMap();
     
+    /**
+     * Get local transaction executor.
+     *
+     * @return local transaction executor, absent means committing or rolling back connections one by one
+     */
+    protected Optional<LocalTransactionExecutor> getLocalTransactionExecutor() {
+        return Optional.absent();
+    }
+    
+    /**
+     * Get bulk connection acquirer.
+     *
+     * @return bulk connection acquirer which every acquisition goes through, absent means acquiring connections of one data source serially
+     */
+    protected Optional<BulkConnectionAcquirer> getBulkConnectionAcquirer() {
+        return Optional.absent();
+    }
+    
     protected final void removeCache(final Connection connection) {
         cachedConnections.values().remove(connection);
     }
@@ -195,7 +224,9 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public final void commit() throws SQLException {
-        if (TransactionType.LOCAL == transactionType) {
+        if (TransactionType.LOCAL == transactionType && getLocalTransactionExecutor().isPresent()) {
+            getLocalTransactionExecutor().get().commit(cachedConnections.values());
+        } else if (TransactionType.LOCAL == transactionType) {
             forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
                 
                 @Override
@@ -212,7 +243,9 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public final void rollback() throws SQLException {
-        if (TransactionType.LOCAL == transactionType) {
+        if (TransactionType.LOCAL == transactionType && getLocalTransactionExecutor().isPresent()) {
+            getLocalTransactionExecutor().get().rollback(cachedConnections.values());
+        } else if (TransactionType.LOCAL == transactionType) {
             forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
                 
                 @Override
@@ -247,9 +280,16 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
             });
         } finally {
             rootInvokeHook.finish(connectionSize);
+            afterClose();
         }
     }
     
+    /**
+     * Callback after connection closed.
+     */
+    protected void afterClose() {
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import io.shardingsphere.core.bootstrap.ShardingBootstrap;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.shardingjdbc.jdbc.unsupported.AbstractUnsupportedOperationDataSource;
+import io.shardingsphere.shardingjdbc.util.DataSourceUtil;
 import io.shardingsphere.spi.transaction.xa.DataSourceMapConverter;
 import io.shardingsphere.spi.transaction.xa.SPIDataSourceMapConverter;
 import lombok.Getter;
@@ -28,10 +29,11 @@ import lombok.Setter;
 
 import javax.sql.DataSource;
 import java.io.PrintWriter;
-import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -92,6 +94,25 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
         closeOriginalDataSources();
     }
     
+    /**
+     * Close original data sources which are not reused by renewed data source.
+     *
+     * @param renewedDataSource renewed data source
+     */
+    public void close(final AbstractDataSourceAdapter renewedDataSource) {
+        Collection<DataSource> reusedDataSources = Collections.newSetFromMap(new IdentityHashMap<DataSource, Boolean>());
+        reusedDataSources.addAll(renewedDataSource.dataSourceMap.values());
+        if (null != renewedDataSource.xaDataSourceMap) {
+            reusedDataSources.addAll(renewedDataSource.xaDataSourceMap.values());
+        }
+        if (null != dataSourceMap) {
+            closeDataSource(dataSourceMap, reusedDataSources);
+        }
+        if (null != xaDataSourceMap) {
+            closeDataSource(xaDataSourceMap, reusedDataSources);
+        }
+    }
+    
     @Override
     public final Logger getParentLogger() {
         return Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
@@ -112,24 +133,14 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
     }
     
     private void closeDataSource(final Map<String, DataSource> dataSourceMap) {
-        for (DataSource each : dataSourceMap.values()) {
-            try {
-                findMethod(each, "close").invoke(each);
-            } catch (final ReflectiveOperationException ignored) {
-            }
-        }
+        closeDataSource(dataSourceMap, Collections.<DataSource>emptyList());
     }
     
-    @SuppressWarnings("unchecked")
-    private Method findMethod(final Object target, final String methodName, final Class<?>... parameterTypes) throws NoSuchMethodException {
-        Class clazz = target.getClass();
-        while (null != clazz) {
-            try {
-                return clazz.getDeclaredMethod(methodName, parameterTypes);
-            } catch (NoSuchMethodException ignored) {
+    private void closeDataSource(final Map<String, DataSource> dataSourceMap, final Collection<DataSource> reusedDataSources) {
+        for (DataSource each : dataSourceMap.values()) {
+            if (!reusedDataSources.contains(each)) {
+                DataSourceUtil.close(each);
             }
-            clazz = clazz.getSuperclass();
         }
-        throw new NoSuchMethodException(String.format("Cannot find method '%s' in %s", methodName, target.getClass().getName()));
     }
 }
@@ -48,7 +48,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     @SuppressWarnings("unchecked")
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         try {
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
@@ -18,17 +18,27 @@
 package io.shardingsphere.shardingjdbc.jdbc.core;
 
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.ShardingConstant;
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.bulkhead.ShardingExecuteBulkhead;
+import io.shardingsphere.core.executor.connection.BulkConnectionAcquirer;
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatistics;
 import io.shardingsphere.core.metadata.ShardingMetaData;
+import io.shardingsphere.core.parsing.cache.ParsingResultCache;
+import io.shardingsphere.core.routing.cache.RouteResultCache;
 import io.shardingsphere.core.rule.ShardingRule;
+import io.shardingsphere.core.transaction.LocalTransactionExecutor;
 import io.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 import lombok.Getter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -49,19 +59,103 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ShardingExecuteEngine executeEngine;
     
+    private final ShardingExecuteBulkhead executeBulkhead;
+    
+    private final QueryResultStatistics queryResultStatistics;
+    
+    private final LocalTransactionExecutor localTransactionExecutor;
+    
+    private final BulkConnectionAcquirer bulkConnectionAcquirer;
+    
     private final ShardingProperties shardingProperties;
     
     private final ShardingMetaData metaData;
     
+    private final ParsingResultCache parsingResultCache;
+    
+    private final RouteResultCache routeResultCache;
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule,
                            final DatabaseType databaseType, final Properties props) throws SQLException {
+        this(dataSourceMap, shardingRule, databaseType, props, null, Collections.<String>emptyList());
+    }
+    
+    public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props, 
+                           final ShardingContext originalContext, final Collection<String> changedDataSourceNames) throws SQLException {
         this.shardingRule = shardingRule;
         this.databaseType = databaseType;
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
+        executeEngine = isReusable(originalContext, ShardingPropertiesConstant.EXECUTOR_SIZE, ShardingPropertiesConstant.EXECUTOR_TYPE) ? originalContext.executeEngine : createExecuteEngine();
+        executeBulkhead = isReusable(originalContext, ShardingPropertiesConstant.MAX_CONCURRENT_EXECUTIONS_PER_DATASOURCE, ShardingPropertiesConstant.MAX_WAITING_EXECUTIONS_PER_DATASOURCE,
+                ShardingPropertiesConstant.EXECUTION_WAITING_TIMEOUT_MILLISECONDS) ? originalContext.executeBulkhead : createExecuteBulkhead();
+        queryResultStatistics = isReusable(originalContext, ShardingPropertiesConstant.MAX_MEMORY_QUERY_RESULT_ROWS)
+                ? originalContext.queryResultStatistics : new QueryResultStatistics(shardingProperties.<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_QUERY_RESULT_ROWS));
+        localTransactionExecutor = isReusable(originalContext, ShardingPropertiesConstant.EXECUTOR_SIZE, ShardingPropertiesConstant.EXECUTOR_TYPE,
+                ShardingPropertiesConstant.PARALLEL_COMMIT_ENABLED, ShardingPropertiesConstant.TRANSACTION_LATENCY_LOG_INTERVAL)
+                ? originalContext.localTransactionExecutor : createLocalTransactionExecutor();
+        bulkConnectionAcquirer = createBulkConnectionAcquirer(dataSourceMap.keySet(), originalContext, changedDataSourceNames);
+        metaData = createMetaData(dataSourceMap, originalContext, changedDataSourceNames);
+        parsingResultCache = isReusable(originalContext, ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE) && shardingRule == originalContext.shardingRule
+                ? originalContext.parsingResultCache : new ParsingResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE));
+        routeResultCache = isReusable(originalContext, ShardingPropertiesConstant.ROUTE_RESULT_CACHE_SIZE) && shardingRule == originalContext.shardingRule
+                ? originalContext.routeResultCache : new RouteResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.ROUTE_RESULT_CACHE_SIZE));
+    }
+    
+    private boolean isReusable(final ShardingContext originalContext, final ShardingPropertiesConstant... shardingPropertiesConstants) {
+        if (null == originalContext) {
+            return false;
+        }
+        for (ShardingPropertiesConstant each : shardingPropertiesConstants) {
+            if (!shardingProperties.getValue(each).equals(originalContext.shardingProperties.getValue(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private ShardingExecuteEngine createExecuteEngine() {
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
-        executeEngine = new ShardingExecuteEngine(executorSize);
-        metaData = new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, 
-                new JDBCTableMetaDataConnectionManager(dataSourceMap), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+        return new ShardingExecuteEngine(executorSize, ExecutorType.valueFrom(shardingProperties.<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE)));
+    }
+    
+    private LocalTransactionExecutor createLocalTransactionExecutor() {
+        return new LocalTransactionExecutor(executeEngine, shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.PARALLEL_COMMIT_ENABLED),
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.TRANSACTION_LATENCY_LOG_INTERVAL));
+    }
+    
+    private ShardingExecuteBulkhead createExecuteBulkhead() {
+        return new ShardingExecuteBulkhead(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONCURRENT_EXECUTIONS_PER_DATASOURCE),
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_WAITING_EXECUTIONS_PER_DATASOURCE), shardingProperties.<Long>getValue(ShardingPropertiesConstant.EXECUTION_WAITING_TIMEOUT_MILLISECONDS));
+    }
+    
+    private BulkConnectionAcquirer createBulkConnectionAcquirer(
+            final Collection<String> dataSourceNames, final ShardingContext originalContext, final Collection<String> changedDataSourceNames) {
+        if (isReusable(originalContext, ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_DATASOURCE, ShardingPropertiesConstant.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS)) {
+            return changedDataSourceNames.isEmpty() ? originalContext.bulkConnectionAcquirer : new BulkConnectionAcquirer(getMaxConnectionsSizes(dataSourceNames),
+                    shardingProperties.<Long>getValue(ShardingPropertiesConstant.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS), originalContext.bulkConnectionAcquirer, changedDataSourceNames);
+        }
+        return new BulkConnectionAcquirer(getMaxConnectionsSizes(dataSourceNames), shardingProperties.<Long>getValue(ShardingPropertiesConstant.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS));
+    }
+    
+    private ShardingMetaData createMetaData(final Map<String, DataSource> dataSourceMap, final ShardingContext originalContext, final Collection<String> changedDataSourceNames) throws SQLException {
+        int maxConnectionsSizePerQuery = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        String snapshotDirectory = shardingProperties.getValue(ShardingPropertiesConstant.TABLE_META_DATA_SNAPSHOT_DIRECTORY);
+        boolean defaultTablesLazyLoaded = shardingProperties.getValue(ShardingPropertiesConstant.DEFAULT_TABLE_META_DATA_LAZY_LOADED);
+        if (null == originalContext) {
+            return new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, 
+                    executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap), maxConnectionsSizePerQuery, ShardingConstant.LOGIC_SCHEMA_NAME, snapshotDirectory, defaultTablesLazyLoaded);
+        }
+        return new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap), maxConnectionsSizePerQuery, 
+                ShardingConstant.LOGIC_SCHEMA_NAME, snapshotDirectory, defaultTablesLazyLoaded, originalContext.shardingRule, originalContext.metaData, changedDataSourceNames);
+    }
+    
+    private Map<String, Integer> getMaxConnectionsSizes(final Collection<String> dataSourceNames) {
+        int maxConnectionsSize = shardingProperties.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_DATASOURCE);
+        Map<String, Integer> result = new LinkedHashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            result.put(each, maxConnectionsSize);
+        }
+        return result;
     }
     
     private Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -82,4 +176,15 @@ public final class ShardingContext implements AutoCloseable {
     public void close() {
         executeEngine.close();
     }
+    
+    /**
+     * Close resources which are not reused by renewed sharding context.
+     *
+     * @param renewedContext renewed sharding context
+     */
+    public void close(final ShardingContext renewedContext) {
+        if (executeEngine != renewedContext.executeEngine) {
+            executeEngine.close();
+        }
+    }
 }
@@ -17,10 +17,14 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core.connection;
 
+import com.google.common.base.Optional;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.core.executor.connection.BulkConnectionAcquirer;
 import io.shardingsphere.core.rule.MasterSlaveRule;
+import io.shardingsphere.core.transaction.LocalTransactionExecutor;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractConnectionAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
+import io.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingPreparedStatement;
 import io.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatement;
 import lombok.Getter;
@@ -49,14 +53,21 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
     
     private final ShardingContext shardingContext;
     
+    private final ShardingDataSource shardingDataSource;
+    
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext) {
         this(dataSourceMap, shardingContext, TransactionType.LOCAL);
     }
     
     public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext, final TransactionType transactionType) {
+        this(dataSourceMap, shardingContext, transactionType, null);
+    }
+    
+    public ShardingConnection(final Map<String, DataSource> dataSourceMap, final ShardingContext shardingContext, final TransactionType transactionType, final ShardingDataSource shardingDataSource) {
         super(transactionType);
         this.dataSourceMap = dataSourceMap;
         this.shardingContext = shardingContext;
+        this.shardingDataSource = shardingDataSource;
     }
     
     /**
@@ -72,6 +83,23 @@ public final class ShardingConnection extends AbstractConnectionAdapter {
         }
     }
     
+    @Override
+    protected void afterClose() {
+        if (null != shardingDataSource) {
+            shardingDataSource.release();
+        }
+    }
+    
+    @Override
+    protected Optional<LocalTransactionExecutor> getLocalTransactionExecutor() {
+        return Optional.fromNullable(shardingContext.getLocalTransactionExecutor());
+    }
+    
+    @Override
+    protected Optional<BulkConnectionAcquirer> getBulkConnectionAcquirer() {
+        return Optional.fromNullable(shardingContext.getBulkConnectionAcquirer());
+    }
+    
     @Override
     public DatabaseMetaData getMetaData() throws SQLException {
         Collection<MasterSlaveRule> masterSlaveRules = shardingContext.getShardingRule().getMasterSlaveRules();
@@ -25,14 +25,19 @@ import io.shardingsphere.core.transaction.TransactionTypeHolder;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractDataSourceAdapter;
 import io.shardingsphere.shardingjdbc.jdbc.core.ShardingContext;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Sharding data source.
@@ -51,13 +56,25 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         this(dataSourceMap, shardingRule, new ConcurrentHashMap<String, Object>(), new Properties());
     }
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger referenceCount = new AtomicInteger(1);
+    
+    @Getter(AccessLevel.NONE)
+    private volatile ShardingDataSource renewedDataSource;
+    
     public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Map<String, Object> configMap, final Properties props) throws SQLException {
+        this(dataSourceMap, shardingRule, configMap, props, null);
+    }
+    
+    public ShardingDataSource(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final Map<String, Object> configMap, final Properties props, 
+                              final ShardingDataSource originalDataSource) throws SQLException {
         super(dataSourceMap);
         checkDataSourceType(dataSourceMap);
         if (!configMap.isEmpty()) {
             ConfigMapContext.getInstance().getConfigMap().putAll(configMap);
         }
-        shardingContext = new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props);
+        shardingContext = null == originalDataSource ? new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props)
+                : new ShardingContext(getDataSourceMap(), shardingRule, getDatabaseType(), props, originalDataSource.getShardingContext(), getChangedDataSourceNames(originalDataSource));
     }
     
     private void checkDataSourceType(final Map<String, DataSource> dataSourceMap) {
@@ -66,16 +83,56 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         }
     }
     
+    private Collection<String> getChangedDataSourceNames(final ShardingDataSource originalDataSource) {
+        Collection<String> result = new LinkedHashSet<>(originalDataSource.getDataSourceMap().keySet());
+        result.removeAll(getDataSourceMap().keySet());
+        for (Entry<String, DataSource> entry : getDataSourceMap().entrySet()) {
+            if (entry.getValue() != originalDataSource.getDataSourceMap().get(entry.getKey())) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public final ShardingConnection getConnection() {
+        if (null != renewedDataSource || !retain()) {
+            return renewedDataSource.getConnection();
+        }
         if (TransactionType.XA == TransactionTypeHolder.get()) {
             if (null == getXaDataSourceMap() || getXaDataSourceMap().isEmpty()) {
                 log.warn("XA transaction resource have not load, using Local transaction instead!");
             } else {
-                return new ShardingConnection(getXaDataSourceMap(), shardingContext, TransactionType.XA);
+                return new ShardingConnection(getXaDataSourceMap(), shardingContext, TransactionType.XA, this);
             }
         }
-        return new ShardingConnection(getDataSourceMap(), shardingContext);
+        return new ShardingConnection(getDataSourceMap(), shardingContext, TransactionType.LOCAL, this);
+    }
+    
+    private boolean retain() {
+        int count;
+        do {
+            count = referenceCount.get();
+            if (0 == count) {
+                return false;
+            }
+        } while (!referenceCount.compareAndSet(count, count + 1));
+        return true;
+    }
+    
+    /**
+     * Release connection acquired from this sharding data source.
+     *
+     * <p>
+     * Resources which are not reused by renewed sharding data source are closed after last connection released.
+     * </p>
+     */
+    public final void release() {
+        if (0 == referenceCount.decrementAndGet()) {
+            super.close(renewedDataSource);
+            shardingContext.close(renewedDataSource.getShardingContext());
+            renewedDataSource.release();
+        }
     }
     
     @Override
@@ -83,4 +140,21 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         super.close();
         shardingContext.close();
     }
+    
+    /**
+     * Close data sources and executor which are not reused by renewed sharding data source.
+     *
+     * <p>
+     * Closing is deferred until all connections acquired from this sharding data source are closed,
+     * new connections are acquired from renewed sharding data source after that.
+     * Renewed sharding data source is retained until then, so that resources shared with it are not closed by its own renewal.
+     * </p>
+     *
+     * @param renewedDataSource renewed sharding data source
+     */
+    public final void close(final ShardingDataSource renewedDataSource) {
+        renewedDataSource.retain();
+        this.renewedDataSource = renewedDataSource;
+        release();
+    }
 }
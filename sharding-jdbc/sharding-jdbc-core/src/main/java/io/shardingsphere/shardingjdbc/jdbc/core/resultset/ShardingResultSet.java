@@ -17,6 +17,7 @@
 
 package io.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
 
@@ -55,6 +56,17 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.next();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (mergeResultSet instanceof CloseableMergedResult) {
+                ((CloseableMergedResult) mergeResultSet).close();
+            }
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
@@ -95,7 +95,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             initStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                     connection.getShardingContext().getShardingRule(), statementExecutor.executeQuery(),
-                    routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable());
+                    routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getShardingProperties());
             result = new ShardingResultSet(statementExecutor.getResultSets(), mergeEngine.merge(), this);
         } finally {
             currentResultSet = null;
@@ -231,7 +231,7 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(
                     connection.getShardingContext().getShardingRule(), queryResults, routeResult.getSqlStatement(), 
-                    connection.getShardingContext().getMetaData().getTable());
+                    connection.getShardingContext().getMetaData().getTable(), connection.getShardingContext().getShardingProperties());
             currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         }
         return currentResultSet;
@@ -251,7 +251,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void sqlRoute(final String sql) {
         ShardingContext shardingContext = connection.getShardingContext();
         routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(), shardingContext.getMetaData().getTable(), shardingContext.getDatabaseType(), 
-                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource()).route(sql);
+                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), shardingContext.getMetaData().getDataSource(), 
+                shardingContext.getParsingResultCache(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.STATEMENT_PARAMETERIZED_ENABLED)).route(sql);
     }
     
     // TODO refresh table meta data by SQL parse result
@@ -279,6 +280,12 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         statementExecutor.clear();
     }
     
+    @Override
+    public void close() throws SQLException {
+        statementExecutor.closeReadAheadQueryResults();
+        super.close();
+    }
+    
     @SuppressWarnings("MagicConstant")
     @Override
     public int getResultSetType() {
@@ -85,4 +85,29 @@ public final class DataSourceUtil {
             }
         }
     }
+    
+    /**
+     * Close data source if it has close method.
+     *
+     * @param dataSource data source to be closed
+     */
+    public static void close(final DataSource dataSource) {
+        try {
+            findMethod(dataSource, "close").invoke(dataSource);
+        } catch (final ReflectiveOperationException ignored) {
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Method findMethod(final Object target, final String methodName, final Class<?>... parameterTypes) throws NoSuchMethodException {
+        Class clazz = target.getClass();
+        while (null != clazz) {
+            try {
+                return clazz.getDeclaredMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException ignored) {
+            }
+            clazz = clazz.getSuperclass();
+        }
+        throw new NoSuchMethodException(String.format("Cannot find method '%s' in %s", methodName, target.getClass().getName()));
+    }
 }
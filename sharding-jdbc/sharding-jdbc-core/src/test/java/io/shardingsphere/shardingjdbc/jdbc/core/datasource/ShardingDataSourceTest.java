@@ -23,11 +23,13 @@ import io.shardingsphere.api.config.MasterSlaveRuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.api.config.TableRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.constant.transaction.TransactionType;
 import io.shardingsphere.core.rule.ShardingRule;
 import io.shardingsphere.core.transaction.TransactionTypeHolder;
 import io.shardingsphere.shardingjdbc.api.MasterSlaveDataSourceFactory;
 import io.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.After;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
@@ -47,9 +49,12 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -188,6 +193,62 @@ public final class ShardingDataSourceTest {
         assertThat(shardingConnection.getShardingTransactionHandler() == null, is(true));
     }
     
+    @Test
+    public void assertRenewWithSameDataSources() throws SQLException {
+        DataSource dataSource = mockDataSource("H2");
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
+        dataSourceMap.put("ds", dataSource);
+        ShardingDataSource originalDataSource = createShardingDataSource(dataSourceMap);
+        ShardingDataSource actual = new ShardingDataSource(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()),
+                Collections.<String, Object>emptyMap(), new Properties(), originalDataSource);
+        assertThat(actual.getShardingContext().getExecuteEngine(), sameInstance(originalDataSource.getShardingContext().getExecuteEngine()));
+        assertThat(actual.getShardingContext().getMetaData().getTable().get("logictable"), sameInstance(originalDataSource.getShardingContext().getMetaData().getTable().get("logictable")));
+        assertThat(actual.getShardingContext().getParsingResultCache(), not(originalDataSource.getShardingContext().getParsingResultCache()));
+        originalDataSource.close(actual);
+        assertThat(actual.getDataSourceMap().get("ds"), is(dataSource));
+    }
+    
+    @Test
+    public void assertRenewWithChangedProperties() throws SQLException {
+        DataSource dataSource = mockDataSource("H2");
+        Map<String, DataSource> dataSourceMap = new HashMap<>(1, 1);
+        dataSourceMap.put("ds", dataSource);
+        ShardingDataSource originalDataSource = createShardingDataSource(dataSourceMap);
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.EXECUTOR_SIZE.getKey(), "1");
+        ShardingDataSource actual = new ShardingDataSource(dataSourceMap, originalDataSource.getShardingContext().getShardingRule(), Collections.<String, Object>emptyMap(), props, originalDataSource);
+        assertThat(actual.getShardingContext().getExecuteEngine(), not(originalDataSource.getShardingContext().getExecuteEngine()));
+        assertThat(actual.getShardingContext().getMetaData().getTable().get("logictable"), sameInstance(originalDataSource.getShardingContext().getMetaData().getTable().get("logictable")));
+        assertThat(actual.getShardingContext().getParsingResultCache(), sameInstance(originalDataSource.getShardingContext().getParsingResultCache()));
+        originalDataSource.close(actual);
+        actual.close();
+    }
+    
+    @Test
+    public void assertRenewCloseDataSourcesAfterConnectionsClosed() throws SQLException {
+        BasicDataSource originalPool = mockPool();
+        Map<String, DataSource> originalDataSourceMap = new HashMap<>(1, 1);
+        originalDataSourceMap.put("ds", originalPool);
+        ShardingDataSource originalDataSource = createShardingDataSource(originalDataSourceMap);
+        ShardingConnection inFlightConnection = originalDataSource.getConnection();
+        Map<String, DataSource> renewedDataSourceMap = new HashMap<>(1, 1);
+        renewedDataSourceMap.put("ds", mockPool());
+        ShardingDataSource actual = new ShardingDataSource(renewedDataSourceMap, originalDataSource.getShardingContext().getShardingRule(),
+                Collections.<String, Object>emptyMap(), new Properties(), originalDataSource);
+        originalDataSource.close(actual);
+        verify(originalPool, never()).close();
+        assertThat(originalDataSource.getConnection().getShardingContext(), sameInstance(actual.getShardingContext()));
+        inFlightConnection.close();
+        verify(originalPool).close();
+    }
+    
+    private BasicDataSource mockPool() throws SQLException {
+        BasicDataSource result = mock(BasicDataSource.class);
+        Connection connection = mockDataSource("H2").getConnection();
+        when(result.getConnection()).thenReturn(connection);
+        return result;
+    }
+    
     private ShardingDataSource createShardingDataSource(final Map<String, DataSource> dataSourceMap) throws SQLException {
         return new ShardingDataSource(dataSourceMap, new ShardingRule(createShardingRuleConfig(dataSourceMap), dataSourceMap.keySet()));
     }
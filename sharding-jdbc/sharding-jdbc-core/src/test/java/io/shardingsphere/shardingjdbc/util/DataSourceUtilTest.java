@@ -26,6 +26,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class DataSourceUtilTest {
     
@@ -61,6 +62,13 @@ public final class DataSourceUtilTest {
         assertThat(actual.getUsername(), is("sa"));
     }
     
+    @Test
+    public void assertClose() throws ReflectiveOperationException {
+        BasicDataSource actual = (BasicDataSource) DataSourceUtil.getDataSource(BasicDataSource.class.getName(), getDataSourcePoolProperties("driverClassName", "url", "username"));
+        DataSourceUtil.close(actual);
+        assertTrue(actual.isClosed());
+    }
+    
     private Map<String, Object> getDataSourcePoolProperties(final String driverClassName, final String url, final String username) {
         Map<String, Object> result = new HashMap<>(3, 1);
         result.put(driverClassName, org.h2.Driver.class.getName());
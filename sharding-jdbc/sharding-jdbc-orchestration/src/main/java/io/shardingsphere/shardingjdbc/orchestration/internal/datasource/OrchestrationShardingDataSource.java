@@ -22,6 +22,7 @@ import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.api.ConfigMapContext;
 import io.shardingsphere.api.config.RuleConfiguration;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
+import io.shardingsphere.core.config.DataSourceConfiguration;
 import io.shardingsphere.core.constant.ShardingConstant;
 import io.shardingsphere.core.rule.MasterSlaveRule;
 import io.shardingsphere.core.rule.ShardingRule;
@@ -39,13 +40,18 @@ import io.shardingsphere.orchestration.internal.rule.OrchestrationShardingRule;
 import io.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import io.shardingsphere.shardingjdbc.orchestration.internal.circuit.datasource.CircuitBreakerDataSource;
 import io.shardingsphere.shardingjdbc.orchestration.internal.util.DataSourceConverter;
+import io.shardingsphere.shardingjdbc.util.DataSourceUtil;
 import lombok.SneakyThrows;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Orchestration sharding datasource.
@@ -54,16 +60,18 @@ import java.util.Map;
  */
 public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSource {
     
-    private ShardingDataSource dataSource;
+    private volatile ShardingDataSource dataSource;
+    
+    private Map<String, DataSourceConfiguration> dataSourceConfigurations;
     
     public OrchestrationShardingDataSource(final OrchestrationConfiguration orchestrationConfig) throws SQLException {
         super(new ShardingOrchestrationFacade(orchestrationConfig, Collections.singletonList(ShardingConstant.LOGIC_SCHEMA_NAME)));
         ConfigurationService configService = getShardingOrchestrationFacade().getConfigService();
         ShardingRuleConfiguration shardingRuleConfig = configService.loadShardingRuleConfiguration(ShardingConstant.LOGIC_SCHEMA_NAME);
         Preconditions.checkState(null != shardingRuleConfig && !shardingRuleConfig.getTableRuleConfigs().isEmpty(), "Missing the sharding rule configuration on registry center");
-        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(configService.loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME)),
-                new OrchestrationShardingRule(shardingRuleConfig, configService.loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME).keySet()),
-                configService.loadConfigMap(), configService.loadProperties());
+        dataSourceConfigurations = configService.loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME);
+        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(dataSourceConfigurations),
+                new OrchestrationShardingRule(shardingRuleConfig, dataSourceConfigurations.keySet()), configService.loadConfigMap(), configService.loadProperties());
         getShardingOrchestrationFacade().init();
     }
     
@@ -73,6 +81,7 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
                 shardingDataSource.getDataSourceMap().keySet()), ConfigMapContext.getInstance().getConfigMap(), shardingDataSource.getShardingContext().getShardingProperties().getProps());
         getShardingOrchestrationFacade().init(Collections.singletonMap(ShardingConstant.LOGIC_SCHEMA_NAME, DataSourceConverter.getDataSourceConfigurationMap(dataSource.getDataSourceMap())),
                 getRuleConfigurationMap(), null, ConfigMapContext.getInstance().getConfigMap(), dataSource.getShardingContext().getShardingProperties().getProps());
+        dataSourceConfigurations = getShardingOrchestrationFacade().getConfigService().loadDataSourceConfigurations(ShardingConstant.LOGIC_SCHEMA_NAME);
     }
     
     private Map<String, RuleConfiguration> getRuleConfigurationMap() {
@@ -95,26 +104,73 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     /**
      * Renew sharding rule.
      *
+     * <p>
+     * Data sources, executor and meta data of unchanged tables are reused.
+     * Others are closed after in-flight connections closed.
+     * </p>
+     *
      * @param shardingRuleChangedEvent sharding rule changed event
      */
     @Subscribe
     @SneakyThrows
     public final synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(), new ShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(),
-                dataSource.getDataSourceMap().keySet()), ConfigMapContext.getInstance().getConfigMap(), dataSource.getShardingContext().getShardingProperties().getProps());
+        ShardingDataSource originalDataSource = dataSource;
+        ShardingRule shardingRule = new ShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), originalDataSource.getDataSourceMap().keySet());
+        dataSource = new ShardingDataSource(originalDataSource.getDataSourceMap(), shardingRule, 
+                ConfigMapContext.getInstance().getConfigMap(), originalDataSource.getShardingContext().getShardingProperties().getProps(), originalDataSource);
+        originalDataSource.close(dataSource);
     }
     
     /**
      * Renew sharding data source.
      *
+     * <p>
+     * Only data sources whose configurations changed are recreated and closed.
+     * Original data sources are closed after in-flight connections closed.
+     * Recreated data sources are closed if renewed sharding data source can not be created.
+     * </p>
+     *
      * @param dataSourceChangedEvent data source changed event
      */
     @Subscribe
     @SneakyThrows
     public final synchronized void renew(final DataSourceChangedEvent dataSourceChangedEvent) {
-        dataSource.close();
-        dataSource = new ShardingDataSource(DataSourceConverter.getDataSourceMap(dataSourceChangedEvent.getDataSourceConfigurations()), dataSource.getShardingContext().getShardingRule(),
-                ConfigMapContext.getInstance().getConfigMap(), dataSource.getShardingContext().getShardingProperties().getProps());
+        ShardingDataSource originalDataSource = dataSource;
+        Map<String, DataSourceConfiguration> renewedDataSourceConfigurations = dataSourceChangedEvent.getDataSourceConfigurations();
+        Map<String, DataSource> renewedDataSourceMap = getRenewedDataSourceMap(originalDataSource.getDataSourceMap(), renewedDataSourceConfigurations);
+        try {
+            dataSource = new ShardingDataSource(renewedDataSourceMap, originalDataSource.getShardingContext().getShardingRule(),
+                    ConfigMapContext.getInstance().getConfigMap(), originalDataSource.getShardingContext().getShardingProperties().getProps(), originalDataSource);
+        } catch (final SQLException | RuntimeException ex) {
+            closeCreatedDataSources(renewedDataSourceMap, originalDataSource.getDataSourceMap());
+            throw ex;
+        }
+        originalDataSource.close(dataSource);
+        dataSourceConfigurations = renewedDataSourceConfigurations;
+    }
+    
+    private Map<String, DataSource> getRenewedDataSourceMap(final Map<String, DataSource> originalDataSourceMap, final Map<String, DataSourceConfiguration> renewedDataSourceConfigurations) {
+        Map<String, DataSource> result = new LinkedHashMap<>(renewedDataSourceConfigurations.size(), 1);
+        try {
+            for (Entry<String, DataSourceConfiguration> entry : renewedDataSourceConfigurations.entrySet()) {
+                boolean isReusable = originalDataSourceMap.containsKey(entry.getKey()) && entry.getValue().equals(dataSourceConfigurations.get(entry.getKey()));
+                result.put(entry.getKey(), isReusable ? originalDataSourceMap.get(entry.getKey()) : entry.getValue().createDataSource());
+            }
+        } catch (final RuntimeException ex) {
+            closeCreatedDataSources(result, originalDataSourceMap);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private void closeCreatedDataSources(final Map<String, DataSource> renewedDataSourceMap, final Map<String, DataSource> originalDataSourceMap) {
+        Collection<DataSource> originalDataSources = Collections.newSetFromMap(new IdentityHashMap<DataSource, Boolean>());
+        originalDataSources.addAll(originalDataSourceMap.values());
+        for (DataSource each : renewedDataSourceMap.values()) {
+            if (!originalDataSources.contains(each)) {
+                DataSourceUtil.close(each);
+            }
+        }
     }
     
     /**
@@ -125,8 +181,10 @@ public class OrchestrationShardingDataSource extends AbstractOrchestrationDataSo
     @SneakyThrows
     @Subscribe
     public final synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
-        dataSource = new ShardingDataSource(dataSource.getDataSourceMap(),
-                dataSource.getShardingContext().getShardingRule(), ConfigMapContext.getInstance().getConfigMap(), propertiesChangedEvent.getProps());
+        ShardingDataSource originalDataSource = dataSource;
+        dataSource = new ShardingDataSource(originalDataSource.getDataSourceMap(),
+                originalDataSource.getShardingContext().getShardingRule(), ConfigMapContext.getInstance().getConfigMap(), propertiesChangedEvent.getProps(), originalDataSource);
+        originalDataSource.close(dataSource);
     }
     
     /**
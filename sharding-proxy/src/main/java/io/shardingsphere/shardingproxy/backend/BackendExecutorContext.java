@@ -17,8 +17,12 @@
 
 package io.shardingsphere.shardingproxy.backend;
 
+import io.shardingsphere.core.constant.ExecutorType;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.executor.ShardingExecuteEngine;
+import io.shardingsphere.core.executor.bulkhead.ShardingExecuteBulkhead;
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatistics;
+import io.shardingsphere.core.transaction.LocalTransactionExecutor;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -35,7 +39,23 @@ public final class BackendExecutorContext {
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
     @Getter
-    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE), 
+            ExecutorType.valueFrom(GlobalRegistry.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE)));
+    
+    @Getter
+    private final ShardingExecuteBulkhead executeBulkhead = new ShardingExecuteBulkhead(
+            GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONCURRENT_EXECUTIONS_PER_DATASOURCE),
+            GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_WAITING_EXECUTIONS_PER_DATASOURCE),
+            GlobalRegistry.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.EXECUTION_WAITING_TIMEOUT_MILLISECONDS));
+    
+    @Getter
+    private final QueryResultStatistics queryResultStatistics = new QueryResultStatistics(
+            GlobalRegistry.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.MAX_MEMORY_QUERY_RESULT_ROWS));
+    
+    @Getter
+    private final LocalTransactionExecutor localTransactionExecutor = new LocalTransactionExecutor(
+            executeEngine, GlobalRegistry.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PARALLEL_COMMIT_ENABLED),
+            GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.TRANSACTION_LATENCY_LOG_INTERVAL));
     
     /**
      * Get backend executor context instance.
@@ -18,13 +18,12 @@
 package io.shardingsphere.shardingproxy.backend.jdbc.connection;
 
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
+import io.shardingsphere.shardingproxy.backend.BackendExecutorContext;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * Local transaction manager.
@@ -58,55 +57,22 @@ public final class LocalTransactionManager implements TransactionManager {
     
     private void commit() throws SQLException {
         if (connection.getStateHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>();
-            exceptions.addAll(commitConnections());
-            connection.getStateHandler().getAndSetStatus(ConnectionStatus.TERMINATED);
-            throwSQLExceptionIfNecessary(exceptions);
-        }
-    }
-    
-    private void rollback() throws SQLException {
-        if (connection.getStateHandler().isInTransaction()) {
-            Collection<SQLException> exceptions = new LinkedList<>();
-            exceptions.addAll(rollbackConnections());
-            connection.getStateHandler().getAndSetStatus(ConnectionStatus.TERMINATED);
-            throwSQLExceptionIfNecessary(exceptions);
-        }
-    }
-    
-    private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
             try {
-                each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
+                BackendExecutorContext.getInstance().getLocalTransactionExecutor().commit(connection.getCachedConnections().values());
+            } finally {
+                connection.getStateHandler().getAndSetStatus(ConnectionStatus.TERMINATED);
             }
         }
-        return result;
     }
     
-    private Collection<SQLException> rollbackConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+    private void rollback() throws SQLException {
+        if (connection.getStateHandler().isInTransaction()) {
             try {
-                each.rollback();
-            } catch (final SQLException ex) {
-                result.add(ex);
+                BackendExecutorContext.getInstance().getLocalTransactionExecutor().rollback(connection.getCachedConnections().values());
+            } finally {
+                connection.getStateHandler().getAndSetStatus(ConnectionStatus.TERMINATED);
             }
         }
-        return result;
-    }
-    
-    private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
-        if (exceptions.isEmpty()) {
-            return;
-        }
-        SQLException ex = new SQLException();
-        for (SQLException each : exceptions) {
-            ex.setNextException(each);
-        }
-        throw ex;
     }
     
     @SneakyThrows
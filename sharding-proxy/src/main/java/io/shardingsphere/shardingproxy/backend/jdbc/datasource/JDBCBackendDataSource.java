@@ -18,7 +18,9 @@
 package io.shardingsphere.shardingproxy.backend.jdbc.datasource;
 
 import io.shardingsphere.core.constant.ConnectionMode;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.connection.BulkConnectionAcquirer;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.shardingproxy.backend.BackendDataSource;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
@@ -30,8 +32,6 @@ import javax.sql.DataSource;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,8 +51,13 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     @Getter
     private Map<String, DataSource> dataSources;
     
+    @Getter
+    private BulkConnectionAcquirer bulkConnectionAcquirer;
+    
     public JDBCBackendDataSource(final Map<String, DataSourceParameter> dataSourceParameters) {
         dataSources = createDataSourceMap(dataSourceParameters);
+        bulkConnectionAcquirer = new BulkConnectionAcquirer(getMaxConnectionsSizes(dataSourceParameters),
+                GlobalRegistry.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.CONNECTION_RESERVATION_TIMEOUT_MILLISECONDS));
     }
     
     private Map<String, DataSource> createDataSourceMap(final Map<String, DataSourceParameter> dataSourceParameters) {
@@ -74,6 +79,14 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         return result;
     }
     
+    private Map<String, Integer> getMaxConnectionsSizes(final Map<String, DataSourceParameter> dataSourceParameters) {
+        Map<String, Integer> result = new LinkedHashMap<>(dataSourceParameters.size(), 1);
+        for (Entry<String, DataSourceParameter> entry : dataSourceParameters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().getMaximumPoolSize());
+        }
+        return result;
+    }
+    
     private JDBCBackendDataSourceFactory getBackendDataSourceFactory() {
         switch (GlobalRegistry.getInstance().getTransactionType()) {
             case XA:
@@ -103,37 +116,15 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         DataSource dataSource = dataSources.get(dataSourceName);
         if (1 == connectionSize) {
-            return Collections.singletonList(dataSource.getConnection());
-        }
-        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
-            return createConnections(dataSource, connectionSize);
+            return bulkConnectionAcquirer.acquire(dataSourceName, dataSource, connectionSize);
         }
-        synchronized (dataSource) {
-            return createConnections(dataSource, connectionSize);
-        }
-    }
-    
-    private List<Connection> createConnections(final DataSource dataSource, final int connectionSize) throws SQLException {
-        boolean hasException = false;
-        List<Connection> result = new ArrayList<>(connectionSize);
-        for (int i = 0; i < connectionSize; i++) {
-            try {
-                result.add(dataSource.getConnection());
-            } catch (final SQLException ignored) {
-                hasException = true;
-            }
-        }
-        if (hasException) {
-            for (Connection each : result) {
-                each.close();
-            }
-            throw new ShardingException(String.format("Could't get %d connections one time, partition succeed connection(%d) have released!", connectionSize, result.size()));
-        } else {
-            return result;
+        try {
+            return bulkConnectionAcquirer.acquire(dataSourceName, dataSource, connectionSize);
+        } catch (final SQLException ex) {
+            throw new ShardingException(ex.getMessage(), ex);
         }
     }
     
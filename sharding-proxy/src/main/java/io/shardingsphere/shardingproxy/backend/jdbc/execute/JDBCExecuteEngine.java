@@ -26,9 +26,12 @@ import io.shardingsphere.core.executor.StatementExecuteUnit;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import io.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
 import io.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.ReadAheadQueryResult;
+import io.shardingsphere.core.executor.sql.execute.result.StatisticsQueryResult;
 import io.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import io.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
+import io.shardingsphere.core.executor.sql.prepare.QueryResultStatistics;
 import io.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
@@ -92,13 +95,22 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final QueryResultStatistics queryResultStatistics;
+    
+    private final int streamReadAheadRows;
+    
+    private final int maxMemoryRowsPerQueryResult;
+    
     public JDBCExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         int maxConnectionsSizePerQuery = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
         ShardingExecuteEngine executeEngine = BackendExecutorContext.getInstance().getExecuteEngine();
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+        queryResultStatistics = BackendExecutorContext.getInstance().getQueryResultStatistics();
+        streamReadAheadRows = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.STREAM_READ_AHEAD_ROWS);
+        maxMemoryRowsPerQueryResult = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_MEMORY_ROWS_PER_QUERY_RESULT);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, queryResultStatistics);
+        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, BackendExecutorContext.getInstance().getExecuteBulkhead());
     }
     
     @SuppressWarnings("unchecked")
@@ -127,26 +139,27 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private ExecuteResponseUnit executeWithMetadata(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean isReturnGeneratedKeys) throws SQLException {
         backendConnection.add(statement);
+        long startNanos = System.nanoTime();
         if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
             return new ExecuteUpdateResponseUnit(new OKPacket(1, statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
         }
         ResultSet resultSet = statement.getResultSet();
-        backendConnection.add(resultSet);
         ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
         if (0 == resultSetMetaData.getColumnCount()) {
+            backendConnection.add(resultSet);
             return new ExecuteUpdateResponseUnit(new OKPacket(1));
         }
-        return new ExecuteQueryResponseUnit(getHeaderPackets(resultSetMetaData), createQueryResult(resultSet, connectionMode));
+        return new ExecuteQueryResponseUnit(getHeaderPackets(resultSetMetaData), createQueryResult(sql, resultSet, connectionMode, startNanos));
     }
     
     private ExecuteResponseUnit executeWithoutMetadata(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean isReturnGeneratedKeys) throws SQLException {
         backendConnection.add(statement);
+        long startNanos = System.nanoTime();
         if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
             return new ExecuteUpdateResponseUnit(new OKPacket(1, statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
         }
         ResultSet resultSet = statement.getResultSet();
-        backendConnection.add(resultSet);
-        return new ExecuteQueryResponseUnit(null, createQueryResult(resultSet, connectionMode));
+        return new ExecuteQueryResponseUnit(null, createQueryResult(sql, resultSet, connectionMode, startNanos));
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -165,8 +178,25 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         return new QueryResponsePackets(fieldCountPacket, columnDefinition41Packets, new EofPacket(++currentSequenceId));
     }
     
-    private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+    private QueryResult createQueryResult(final String sql, final ResultSet resultSet, final ConnectionMode connectionMode, final long startNanos) throws SQLException {
+        if (connectionMode == ConnectionMode.MEMORY_STRICTLY) {
+            QueryResult result = createStreamQueryResult(resultSet);
+            return queryResultStatistics.isEnabled() ? new StatisticsQueryResult(result, sql, queryResultStatistics, System.nanoTime() - startNanos) : result;
+        }
+        backendConnection.add(resultSet);
+        MemoryQueryResult result = new MemoryQueryResult(resultSet, maxMemoryRowsPerQueryResult);
+        queryResultStatistics.record(sql, result.getRowCount(), System.nanoTime() - startNanos);
+        return result;
+    }
+    
+    private QueryResult createStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        if (0 == streamReadAheadRows) {
+            backendConnection.add(resultSet);
+            return new StreamQueryResult(resultSet);
+        }
+        ReadAheadQueryResult result = new ReadAheadQueryResult(resultSet, streamReadAheadRows, BackendExecutorContext.getInstance().getExecuteEngine());
+        backendConnection.add(result.getResultSet());
+        return result;
     }
     
     @RequiredArgsConstructor
@@ -22,6 +22,7 @@ import io.netty.channel.pool.SimpleChannelPool;
 import io.shardingsphere.core.constant.DatabaseType;
 import io.shardingsphere.core.constant.SQLType;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.merger.CloseableMergedResult;
 import io.shardingsphere.core.merger.MergeEngineFactory;
 import io.shardingsphere.core.merger.MergedResult;
 import io.shardingsphere.core.merger.QueryResult;
@@ -101,6 +102,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private MergedResult mergedResult;
     
+    private List<QueryResult> queryResults = Collections.emptyList();
+    
     @Override
     protected CommandResponsePackets execute0() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
         return logicSchema instanceof MasterSlaveSchema ? executeForMasterSlave() : executeForSharding();
@@ -112,7 +115,7 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         synchronizedFuture = new SynchronizedFuture(1);
         FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
         executeSQL(dataSourceName, sql);
-        List<QueryResult> queryResults = synchronizedFuture.get(
+        queryResults = synchronizedFuture.get(
                 GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
         FutureRegistry.getInstance().delete(connectionId);
         List<CommandResponsePackets> packets = new LinkedList<>();
@@ -125,7 +128,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     private CommandResponsePackets executeForSharding() throws InterruptedException, ExecutionException, TimeoutException, SQLException {
         StatementRoutingEngine routingEngine = new StatementRoutingEngine(
                 ((ShardingSchema) logicSchema).getShardingRule(), logicSchema.getMetaData().getTable(), databaseType,
-                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), logicSchema.getMetaData().getDataSource());
+                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), logicSchema.getMetaData().getDataSource(), 
+                logicSchema.getParsingResultCache(), GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.STATEMENT_PARAMETERIZED_ENABLED));
         SQLRouteResult routeResult = routingEngine.route(sql);
         if (routeResult.getRouteUnits().isEmpty()) {
             return new CommandResponsePackets(new OKPacket(1));
@@ -135,7 +139,7 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
         for (RouteUnit each : routeResult.getRouteUnits()) {
             executeSQL(each.getDataSourceName(), each.getSqlUnit().getSql());
         }
-        List<QueryResult> queryResults = synchronizedFuture.get(
+        queryResults = synchronizedFuture.get(
                 GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
         FutureRegistry.getInstance().delete(connectionId);
         List<CommandResponsePackets> packets = new ArrayList<>(queryResults.size());
@@ -205,7 +209,8 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     
     private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
         try {
-            mergedResult = MergeEngineFactory.newInstance(((ShardingSchema) logicSchema).getShardingRule(), queryResults, sqlStatement, logicSchema.getMetaData().getTable()).merge();
+            mergedResult = MergeEngineFactory.newInstance(
+                    ((ShardingSchema) logicSchema).getShardingRule(), queryResults, sqlStatement, logicSchema.getMetaData().getTable(), GLOBAL_REGISTRY.getShardingProperties()).merge();
         } catch (final SQLException ex) {
             return new CommandResponsePackets(new ErrPacket(1, ex));
         }
@@ -225,6 +230,9 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     public boolean next() throws SQLException {
         if (null == mergedResult || !mergedResult.next()) {
             channelRelease();
+            if (mergedResult instanceof CloseableMergedResult) {
+                ((CloseableMergedResult) mergedResult).close();
+            }
             return false;
         }
         return true;
@@ -242,8 +250,24 @@ public final class NettyBackendHandler extends AbstractBackendHandler {
     private void channelRelease() {
         for (Entry<String, List<Channel>> entry : channelMap.entrySet()) {
             for (Channel each : entry.getValue()) {
-                CLIENT_MANAGER.getBackendNettyClient(logicSchema.getName()).getPoolMap().get(entry.getKey()).release(each);
+                channelRelease(CLIENT_MANAGER.getBackendNettyClient(logicSchema.getName()).getPoolMap().get(entry.getKey()), each);
+            }
+        }
+    }
+    
+    private void channelRelease(final SimpleChannelPool pool, final Channel channel) {
+        for (QueryResult each : queryResults) {
+            if (channel == ((MySQLQueryResult) each).getChannel()) {
+                ((MySQLQueryResult) each).discard(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        pool.release(channel);
+                    }
+                });
+                return;
             }
         }
+        pool.release(channel);
     }
 }
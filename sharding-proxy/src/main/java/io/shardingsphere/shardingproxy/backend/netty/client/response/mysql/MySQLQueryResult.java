@@ -18,6 +18,7 @@
 package io.shardingsphere.shardingproxy.backend.netty.client.response.mysql;
 
 import com.google.common.collect.Lists;
+import io.netty.channel.Channel;
 import io.shardingsphere.core.merger.QueryResult;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
@@ -40,6 +41,13 @@ import java.util.concurrent.LinkedBlockingQueue;
 /**
  * MySQL packet query result.
  *
+ * <p>
+ * Auto read of backend channel will be disabled when pending rows reach max pending rows,
+ * and enabled again when pending rows are drained to half of max pending rows by merger.
+ * If merger stops before all rows consumed, rest rows are discarded until row EOF packet received,
+ * channel can be released only after that, so it never returns to pool with auto read disabled.
+ * </p>
+ *
  * @author wangkai
  * @author linjiaqi
  */
@@ -59,6 +67,19 @@ public final class MySQLQueryResult implements QueryResult {
     
     private final BlockingQueue<MySQLPacket> resultSet;
     
+    @Getter
+    private final Channel channel;
+    
+    private final int maxPendingRows;
+    
+    private volatile boolean readPaused;
+    
+    private boolean rowFinished;
+    
+    private boolean discarded;
+    
+    private Runnable rowFinishedCallback;
+    
     @Getter
     private int currentSequenceId;
     
@@ -74,9 +95,11 @@ public final class MySQLQueryResult implements QueryResult {
         columnLabelAndIndexMap = null;
         columnDefinitions = null;
         resultSet = null;
+        channel = null;
+        maxPendingRows = 0;
     }
     
-    public MySQLQueryResult(final MySQLPacketPayload payload) {
+    public MySQLQueryResult(final MySQLPacketPayload payload, final Channel channel, final int maxPendingRows) {
         FieldCountPacket fieldCountPacket = new FieldCountPacket(payload);
         commandResponsePackets = new CommandResponsePackets(fieldCountPacket);
         columnCount = fieldCountPacket.getColumnCount();
@@ -85,6 +108,8 @@ public final class MySQLQueryResult implements QueryResult {
         columnDefinitions = Lists.newArrayListWithCapacity(fieldCountPacket.getColumnCount());
         currentSequenceId = fieldCountPacket.getSequenceId();
         resultSet = new LinkedBlockingQueue<>();
+        this.channel = channel;
+        this.maxPendingRows = maxPendingRows;
     }
     
     /**
@@ -124,7 +149,15 @@ public final class MySQLQueryResult implements QueryResult {
      * @param textResultSetRow text result set row
      */
     public void addTextResultSetRow(final TextResultSetRowPacket textResultSetRow) {
+        if (discarded) {
+            return;
+        }
         put(textResultSetRow);
+        if (maxPendingRows > 0 && !readPaused && resultSet.size() >= maxPendingRows) {
+            readPaused = true;
+            channel.config().setAutoRead(false);
+            resumeReadIfDrained();
+        }
     }
     
     /**
@@ -142,7 +175,53 @@ public final class MySQLQueryResult implements QueryResult {
      * @param eofPacket eof packet
      */
     public void setRowFinished(final EofPacket eofPacket) {
-        put(eofPacket);
+        rowFinished = true;
+        if (readPaused) {
+            readPaused = false;
+            channel.config().setAutoRead(true);
+        }
+        if (discarded) {
+            rowFinishedCallback.run();
+        } else {
+            put(eofPacket);
+        }
+    }
+    
+    /**
+     * Discard rows not consumed by merger.
+     *
+     * <p>
+     * Callback is invoked in event loop of channel after row EOF packet received, or immediately if no rows are pending.
+     * </p>
+     *
+     * @param rowFinishedCallback callback invoked after all rows received
+     */
+    public void discard(final Runnable rowFinishedCallback) {
+        if (null == channel) {
+            rowFinishedCallback.run();
+            return;
+        }
+        channel.eventLoop().execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                discardInEventLoop(rowFinishedCallback);
+            }
+        });
+    }
+    
+    private void discardInEventLoop(final Runnable rowFinishedCallback) {
+        resultSet.clear();
+        if (rowFinished) {
+            rowFinishedCallback.run();
+            return;
+        }
+        discarded = true;
+        this.rowFinishedCallback = rowFinishedCallback;
+        if (readPaused) {
+            readPaused = false;
+            channel.config().setAutoRead(true);
+        }
     }
     
     private void put(final MySQLPacket mysqlPacket) {
@@ -153,10 +232,26 @@ public final class MySQLQueryResult implements QueryResult {
         }
     }
     
+    private void resumeReadIfDrained() {
+        if (readPaused && resultSet.size() <= maxPendingRows / 2) {
+            readPaused = false;
+            channel.config().setAutoRead(true);
+        }
+    }
+    
     @Override
     public boolean next() {
         try {
             MySQLPacket mysqlPacket = resultSet.take();
+            if (readPaused && resultSet.size() <= maxPendingRows / 2) {
+                channel.eventLoop().execute(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        resumeReadIfDrained();
+                    }
+                });
+            }
             currentRow = (mysqlPacket instanceof TextResultSetRowPacket) ? (TextResultSetRowPacket) mysqlPacket : null;
             return null != currentRow;
         } catch (final InterruptedException ex) {
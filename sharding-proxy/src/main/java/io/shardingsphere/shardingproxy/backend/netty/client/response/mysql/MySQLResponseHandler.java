@@ -19,6 +19,7 @@ package io.shardingsphere.shardingproxy.backend.netty.client.response.mysql;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
 import io.shardingsphere.shardingproxy.backend.netty.client.response.ResponseHandler;
@@ -61,10 +62,13 @@ public final class MySQLResponseHandler extends ResponseHandler {
     
     private final Map<Integer, MySQLQueryResult> resultMap;
     
+    private final int maxPendingRows;
+    
     public MySQLResponseHandler(final String dataSourceName, final String schema) {
         dataSourceParameter = GLOBAL_REGISTRY.getLogicSchema(schema).getDataSources().get(dataSourceName);
         dataSourceMetaData = GLOBAL_REGISTRY.getLogicSchema(schema).getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName);
         resultMap = new HashMap<>();
+        maxPendingRows = GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_MAX_PENDING_ROWS);
     }
     
     @Override
@@ -173,7 +177,7 @@ public final class MySQLResponseHandler extends ResponseHandler {
         MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
         MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
         if (null == mysqlQueryResult) {
-            mysqlQueryResult = new MySQLQueryResult(payload);
+            mysqlQueryResult = new MySQLQueryResult(payload, context.channel(), maxPendingRows);
             resultMap.put(connectionId, mysqlQueryResult);
         } else if (mysqlQueryResult.needColumnDefinition()) {
             mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
@@ -18,14 +18,19 @@
 package io.shardingsphere.shardingproxy.frontend.common;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import io.shardingsphere.shardingproxy.frontend.common.executor.ExecutorGroup;
+import io.shardingsphere.shardingproxy.frontend.mysql.CommandExecutor;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import lombok.Getter;
 import lombok.SneakyThrows;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Frontend handler.
  * 
@@ -37,10 +42,12 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     @Getter
     private volatile BackendConnection backendConnection = new BackendConnection(GlobalRegistry.getInstance().getTransactionType());
+    
+    private final AtomicReference<CommandExecutor> suspendedCommandExecutor = new AtomicReference<>();
 
     @Override
     public final void channelActive(final ChannelHandlerContext context) {
-        ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        ChannelThreadExecutorGroup.getInstance().register(context.channel().id(), backendConnection.getStateHandler());
         handshake(context);
     }
     
@@ -60,11 +67,39 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf message);
     
+    /**
+     * Suspend command executor until channel becomes writable.
+     *
+     * @param channel channel
+     * @param commandExecutor command executor to be resumed
+     * @return suspended or not, false means channel is already writable and command executor should go on
+     */
+    public final boolean suspendUntilWritable(final Channel channel, final CommandExecutor commandExecutor) {
+        suspendedCommandExecutor.set(commandExecutor);
+        return !channel.isWritable() || !suspendedCommandExecutor.compareAndSet(commandExecutor, null);
+    }
+    
+    @Override
+    public final void channelWritabilityChanged(final ChannelHandlerContext context) {
+        if (context.channel().isWritable()) {
+            resume(context);
+        }
+        context.fireChannelWritabilityChanged();
+    }
+    
     @Override
     @SneakyThrows
     public final void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
         backendConnection.close(true);
+        resume(context);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
+    
+    private void resume(final ChannelHandlerContext context) {
+        CommandExecutor commandExecutor = suspendedCommandExecutor.getAndSet(null);
+        if (null != commandExecutor) {
+            new ExecutorGroup(context.channel().id()).execute(commandExecutor);
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.frontend.common.executor;
+
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.ConnectionStateHandler;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.ConnectionStatus;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Executor of one channel.
+ *
+ * <p>
+ * Commands of one channel are executed in order by the same worker thread of channel thread executor group.
+ * Worker thread is used by this channel only until it is unbound, so transaction bound to thread never mixes with other channels.
+ * Channel is unbound from worker thread when no command pending and no transaction in progress.
+ * Commands are queued in channel when all worker threads are bound, and submitted in order when a worker thread is bound to channel.
+ * </p>
+ *
+ * @author agent
+ */
+@RequiredArgsConstructor
+public final class ChannelExecutor implements Executor {
+    
+    private final ChannelThreadExecutorGroup executorGroup;
+    
+    private final ConnectionStateHandler stateHandler;
+    
+    private final Queue<Runnable> waitingCommands = new LinkedList<>();
+    
+    private ExecutorService worker;
+    
+    private boolean waitingForWorker;
+    
+    private int pendingCommands;
+    
+    private boolean closed;
+    
+    @Override
+    public void execute(final Runnable command) {
+        synchronized (this) {
+            pendingCommands++;
+            if (null != worker) {
+                submit(command);
+                return;
+            }
+            waitingCommands.offer(command);
+            if (waitingForWorker) {
+                return;
+            }
+            waitingForWorker = true;
+        }
+        ExecutorService boundWorker = executorGroup.bindWorker(this);
+        if (null != boundWorker) {
+            bind(boundWorker);
+        }
+    }
+    
+    synchronized void bind(final ExecutorService worker) {
+        this.worker = worker;
+        waitingForWorker = false;
+        while (!waitingCommands.isEmpty()) {
+            submit(waitingCommands.poll());
+        }
+    }
+    
+    private void submit(final Runnable command) {
+        worker.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    command.run();
+                } finally {
+                    complete();
+                }
+            }
+        });
+    }
+    
+    private void complete() {
+        synchronized (this) {
+            pendingCommands--;
+        }
+        unbindIfIdle();
+    }
+    
+    /**
+     * Close channel executor.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        unbindIfIdle();
+    }
+    
+    private void unbindIfIdle() {
+        ExecutorService idleWorker = getIdleWorker();
+        if (null != idleWorker) {
+            executorGroup.unbindWorker(idleWorker);
+        }
+    }
+    
+    private synchronized ExecutorService getIdleWorker() {
+        if (null == worker || 0 != pendingCommands || !closed && ConnectionStatus.TRANSACTION == stateHandler.getStatus()) {
+            return null;
+        }
+        ExecutorService result = worker;
+        worker = null;
+        return result;
+    }
+    
+    /**
+     * Judge whether channel is bound to worker thread.
+     *
+     * @return channel is bound to worker thread or not
+     */
+    public synchronized boolean isBound() {
+        return null != worker;
+    }
+}
@@ -18,11 +18,19 @@
 package io.shardingsphere.shardingproxy.frontend.common.executor;
 
 import io.netty.channel.ChannelId;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.ConnectionStateHandler;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -32,6 +40,8 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     Channels share bounded worker threads, each channel is bound to one worker thread only while it has pending commands or transaction in progress.
+ *     Channels wait in order for unbound worker when all workers are bound, workers are never shutdown to avoid thread churn.
  * </p>
  * 
  * @author zhaojun
@@ -42,7 +52,13 @@ public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private final Map<ChannelId, Executor> executorServices = new ConcurrentHashMap<>();
+    
+    private final Deque<ExecutorService> idleWorkers = new LinkedList<>();
+    
+    private final Queue<ChannelExecutor> waitingChannels = new LinkedList<>();
+    
+    private int createdWorkersCount;
     
     /**
      * Get channel thread executor group.
@@ -57,18 +73,19 @@ public final class ChannelThreadExecutorGroup {
      * Register channel.
      *
      * @param channelId channel id
+     * @param stateHandler connection state handler of channel
      */
-    public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+    public void register(final ChannelId channelId, final ConnectionStateHandler stateHandler) {
+        executorServices.put(channelId, new ChannelExecutor(this, stateHandler));
     }
     
     /**
-     * Get executor service of current channel.
+     * Get executor of current channel.
      *
      * @param channelId channel id
-     * @return executor service of current channel
+     * @return executor of current channel
      */
-    public ExecutorService get(final ChannelId channelId) {
+    public Executor get(final ChannelId channelId) {
         return executorServices.get(channelId);
     }
     
@@ -78,6 +95,33 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        Executor executor = executorServices.remove(channelId);
+        if (executor instanceof ChannelExecutor) {
+            ((ChannelExecutor) executor).close();
+        }
+    }
+    
+    synchronized ExecutorService bindWorker(final ChannelExecutor channelExecutor) {
+        ExecutorService result = idleWorkers.poll();
+        if (null != result) {
+            return result;
+        }
+        if (createdWorkersCount < GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_MAX_CHANNEL_WORKERS)) {
+            return Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Channel-Executor-" + createdWorkersCount++));
+        }
+        waitingChannels.offer(channelExecutor);
+        return null;
+    }
+    
+    void unbindWorker(final ExecutorService worker) {
+        ChannelExecutor waitingChannel;
+        synchronized (this) {
+            waitingChannel = waitingChannels.poll();
+            if (null == waitingChannel) {
+                idleWorkers.push(worker);
+                return;
+            }
+        }
+        waitingChannel.bind(worker);
     }
 }
@@ -20,8 +20,10 @@ package io.shardingsphere.shardingproxy.frontend.mysql;
 import com.google.common.base.Optional;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
 import io.shardingsphere.shardingproxy.frontend.common.FrontendHandler;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import io.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
 import io.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
 import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
@@ -41,12 +43,20 @@ import java.sql.SQLException;
 /**
  * Command executor.
  *
+ * <p>
+ * When client channel is not writable, command executor is suspended without holding thread,
+ * and resumed by frontend handler when channel becomes writable again.
+ * Root invoke hook is started and finished in every run, because resumed run may be on another thread and hook may hold thread local state.
+ * </p>
+ *
  * @author zhangyonglun
  * @author zhaojun
  */
 @RequiredArgsConstructor
 public final class CommandExecutor implements Runnable {
     
+    private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
+    
     private final ChannelHandlerContext context;
     
     private final ByteBuf message;
@@ -57,33 +67,50 @@ public final class CommandExecutor implements Runnable {
     
     private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
     
+    private QueryCommandPacket queryCommandPacket;
+    
+    private int connectionSize;
+    
     @Override
     public void run() {
         rootInvokeHook.start();
-        int connectionSize = 0;
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
-             BackendConnection backendConnection = frontendHandler.getBackendConnection()) {
+        boolean finished = true;
+        try {
+            finished = null == queryCommandPacket ? executeCommand() : writeMoreResults();
+        } catch (final SQLException ex) {
+            context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            context.writeAndFlush(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+        } finally {
+            if (finished) {
+                closeBackendConnection();
+            }
+            rootInvokeHook.finish(connectionSize);
+        }
+    }
+    
+    private boolean executeCommand() throws SQLException {
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(message)) {
+            BackendConnection backendConnection = frontendHandler.getBackendConnection();
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             CommandPacket commandPacket = getCommandPacket(payload, backendConnection, frontendHandler);
             Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
             if (!responsePackets.isPresent()) {
-                return;
+                return true;
             }
             for (DatabasePacket each : responsePackets.get().getPackets()) {
-                context.writeAndFlush(each);
+                context.write(each);
             }
+            context.flush();
+            connectionSize = backendConnection.getConnectionSize();
             if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+                queryCommandPacket = (QueryCommandPacket) commandPacket;
+                currentSequenceId = responsePackets.get().getPackets().size();
+                return writeMoreResults();
             }
-            connectionSize = backendConnection.getConnectionSize();
-        } catch (final SQLException ex) {
-            context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            context.writeAndFlush(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
-        } finally {
-            rootInvokeHook.finish(connectionSize);
+            return true;
         }
     }
     
@@ -92,25 +119,36 @@ public final class CommandExecutor implements Runnable {
         return CommandPacketFactory.newInstance(sequenceId, payload, backendConnection);
     }
     
-    private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException {
-        if (!context.channel().isActive()) {
-            return;
-        }
-        currentSequenceId = headPacketsCount;
-        while (queryCommandPacket.next()) {
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                synchronized (frontendHandler) {
-                    try {
-                        frontendHandler.wait();
-                    } catch (final InterruptedException ignored) {
-                    }
+    private boolean writeMoreResults() throws SQLException {
+        int flushThreshold = GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        int unflushedRows = 0;
+        while (context.channel().isActive()) {
+            if (!context.channel().isWritable()) {
+                context.flush();
+                if (frontendHandler.suspendUntilWritable(context.channel(), this)) {
+                    return false;
                 }
             }
+            if (!queryCommandPacket.next()) {
+                context.writeAndFlush(new EofPacket(++currentSequenceId));
+                return true;
+            }
             DatabasePacket resultValue = queryCommandPacket.getResultValue();
             currentSequenceId = resultValue.getSequenceId();
-            context.writeAndFlush(resultValue);
+            context.write(resultValue);
+            if (++unflushedRows >= flushThreshold) {
+                context.flush();
+                unflushedRows = 0;
+            }
+        }
+        return true;
+    }
+    
+    private void closeBackendConnection() {
+        try {
+            frontendHandler.getBackendConnection().close();
+        } catch (final SQLException ex) {
+            context.writeAndFlush(new ErrPacket(++currentSequenceId, ex));
         }
-        context.writeAndFlush(new EofPacket(++currentSequenceId));
     }
 }
-
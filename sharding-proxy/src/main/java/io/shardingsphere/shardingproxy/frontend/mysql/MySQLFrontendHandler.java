@@ -78,13 +78,4 @@ public final class MySQLFrontendHandler extends FrontendHandler {
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf message) {
         new ExecutorGroup(context.channel().id()).execute(new CommandExecutor(context, message, this));
     }
-    
-    @Override
-    public void channelWritabilityChanged(final ChannelHandlerContext context) {
-        if (context.channel().isWritable()) {
-            synchronized (this) {
-                this.notifyAll();
-            }
-        }
-    }
 }
@@ -20,6 +20,7 @@ package io.shardingsphere.shardingproxy.runtime.schema;
 import com.google.common.eventbus.Subscribe;
 import io.shardingsphere.api.config.ShardingRuleConfiguration;
 import io.shardingsphere.core.constant.DatabaseType;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import io.shardingsphere.core.metadata.ShardingMetaData;
 import io.shardingsphere.core.rule.DataSourceParameter;
@@ -65,9 +66,12 @@ public final class ShardingSchema extends LogicSchema {
     }
     
     private ShardingMetaData createShardingMetaData() {
+        ShardingProperties shardingProperties = GlobalRegistry.getInstance().getShardingProperties();
         return new ShardingMetaData(getDataSourceURLs(getDataSources()), shardingRule, DatabaseType.MySQL, 
                 BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(getBackendDataSource()), 
-                GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY), getName(), 
+                shardingProperties.<String>getValue(ShardingPropertiesConstant.TABLE_META_DATA_SNAPSHOT_DIRECTORY), 
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.DEFAULT_TABLE_META_DATA_LAZY_LOADED));
     }
     
     /**
@@ -79,6 +83,8 @@ public final class ShardingSchema extends LogicSchema {
     public synchronized void renew(final ShardingRuleChangedEvent shardingRuleChangedEvent) {
         if (getName().equals(shardingRuleChangedEvent.getShardingSchemaName())) {
             shardingRule = new OrchestrationShardingRule(shardingRuleChangedEvent.getShardingRuleConfiguration(), getDataSources().keySet());
+            getParsingResultCache().clear();
+            getRouteResultCache().clear();
         }
     }
     
@@ -50,11 +50,10 @@ public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
     
     @Override
     protected void doEncode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
-        }
+        int headerIndex = out.writerIndex();
+        out.writeMediumLE(0);
+        out.writeByte(message.getSequenceId());
+        message.write(new MySQLPacketPayload(out));
+        out.setMediumLE(headerIndex, out.writerIndex() - headerIndex - MySQLPacket.PAYLOAD_LENGTH - MySQLPacket.SEQUENCE_LENGTH);
     }
 }
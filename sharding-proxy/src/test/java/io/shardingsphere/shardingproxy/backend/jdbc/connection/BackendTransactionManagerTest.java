@@ -17,15 +17,19 @@
 
 package io.shardingsphere.shardingproxy.backend.jdbc.connection;
 
+import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.constant.transaction.TransactionOperationType;
 import io.shardingsphere.core.constant.transaction.TransactionType;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import io.shardingsphere.spi.transaction.ShardingTransactionHandlerRegistry;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Iterator;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -40,8 +44,13 @@ public class BackendTransactionManagerTest {
     private BackendTransactionManager backendTransactionManager = new BackendTransactionManager(backendConnection);
     
     @BeforeClass
-    public static void beforeClass() {
+    public static void beforeClass() throws ReflectiveOperationException {
         ShardingTransactionHandlerRegistry.load();
+        if (null == GlobalRegistry.getInstance().getShardingProperties()) {
+            Field field = GlobalRegistry.class.getDeclaredField("shardingProperties");
+            field.setAccessible(true);
+            field.set(GlobalRegistry.getInstance(), new ShardingProperties(new Properties()));
+        }
     }
     
     @Test
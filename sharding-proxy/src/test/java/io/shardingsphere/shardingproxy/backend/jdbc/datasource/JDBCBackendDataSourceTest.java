@@ -20,6 +20,7 @@ package io.shardingsphere.shardingproxy.backend.jdbc.datasource;
 import io.shardingsphere.core.constant.ConnectionMode;
 import io.shardingsphere.core.constant.properties.ShardingProperties;
 import io.shardingsphere.core.exception.ShardingException;
+import io.shardingsphere.core.executor.connection.BulkConnectionAcquirer;
 import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -32,6 +33,7 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +76,9 @@ public class JDBCBackendDataSourceTest {
         Field field = jdbcBackendDataSource.getClass().getDeclaredField("dataSources");
         field.setAccessible(true);
         field.set(jdbcBackendDataSource, mockDataSources(2));
+        Field acquirerField = jdbcBackendDataSource.getClass().getDeclaredField("bulkConnectionAcquirer");
+        acquirerField.setAccessible(true);
+        acquirerField.set(jdbcBackendDataSource, new BulkConnectionAcquirer(Collections.singletonMap("ds_1", 10), 10000L));
     }
     
     private Map<String, DataSource> mockDataSources(final int size) {
@@ -94,6 +99,12 @@ public class JDBCBackendDataSourceTest {
     public void assertGetConnectionsSucceed() throws SQLException {
         List<Connection> actual = jdbcBackendDataSource.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds_1", 5);
         assertEquals(5, actual.size());
+        assertThat(jdbcBackendDataSource.getBulkConnectionAcquirer().findDataSourceReservation("ds_1").get().getAcquiredCount(), is(1L));
+        assertThat(jdbcBackendDataSource.getBulkConnectionAcquirer().findDataSourceReservation("ds_1").get().getReservedCount(), is(5));
+        for (Connection each : actual) {
+            each.close();
+        }
+        assertThat(jdbcBackendDataSource.getBulkConnectionAcquirer().findDataSourceReservation("ds_1").get().getReservedCount(), is(0));
     }
     
     @Test
@@ -132,7 +143,7 @@ public class JDBCBackendDataSourceTest {
         private final String datasourceName;
         
         private final int connectionSize;
-    
+        
         @Override
         public List<Connection> call() throws SQLException {
             return jdbcBackendDataSource.getConnections(connectionMode, datasourceName, connectionSize);
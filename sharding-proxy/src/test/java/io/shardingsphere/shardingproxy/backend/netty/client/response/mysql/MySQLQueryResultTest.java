@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.backend.netty.client.response.mysql;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.EventLoop;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLQueryResultTest {
+    
+    private Channel channel;
+    
+    private ChannelConfig channelConfig;
+    
+    private MySQLQueryResult queryResult;
+    
+    @Before
+    public void setUp() {
+        channel = mock(Channel.class);
+        channelConfig = mock(ChannelConfig.class);
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.config()).thenReturn(channelConfig);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                ((Runnable) invocation.getArguments()[0]).run();
+                return null;
+            }
+        }).when(eventLoop).execute(any(Runnable.class));
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class);
+        when(payload.readInt1()).thenReturn(1, 0);
+        queryResult = new MySQLQueryResult(payload, channel, 2);
+        queryResult.setColumnFinished(mock(EofPacket.class));
+    }
+    
+    @Test
+    public void assertPauseAndResumeRead() {
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        verify(channelConfig, never()).setAutoRead(false);
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        verify(channelConfig).setAutoRead(false);
+        assertTrue(queryResult.next());
+        verify(channelConfig).setAutoRead(true);
+    }
+    
+    @Test
+    public void assertDiscardBeforeRowFinished() {
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        assertTrue(queryResult.next());
+        Runnable callback = mock(Runnable.class);
+        queryResult.discard(callback);
+        verify(channelConfig).setAutoRead(true);
+        verify(callback, never()).run();
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        verify(channelConfig, times(1)).setAutoRead(false);
+        queryResult.setRowFinished(mock(EofPacket.class));
+        verify(callback).run();
+    }
+    
+    @Test
+    public void assertDiscardWhenReadPaused() {
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        Runnable callback = mock(Runnable.class);
+        queryResult.discard(callback);
+        verify(channelConfig).setAutoRead(false);
+        verify(channelConfig).setAutoRead(true);
+        verify(callback, never()).run();
+        queryResult.setRowFinished(mock(EofPacket.class));
+        verify(callback).run();
+    }
+    
+    @Test
+    public void assertDiscardAfterRowFinished() {
+        queryResult.addTextResultSetRow(mock(TextResultSetRowPacket.class));
+        queryResult.setRowFinished(mock(EofPacket.class));
+        Runnable callback = mock(Runnable.class);
+        queryResult.discard(callback);
+        verify(callback).run();
+    }
+    
+    @Test
+    public void assertDiscardGenericResponse() {
+        Runnable callback = mock(Runnable.class);
+        new MySQLQueryResult().discard(callback);
+        verify(callback).run();
+    }
+}
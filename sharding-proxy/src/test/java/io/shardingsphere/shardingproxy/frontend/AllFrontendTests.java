@@ -18,8 +18,10 @@
 package io.shardingsphere.shardingproxy.frontend;
 
 import io.shardingsphere.shardingproxy.frontend.common.FrontendHandlerFactoryTest;
+import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelExecutorTest;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ChannelThreadExecutorGroupTest;
 import io.shardingsphere.shardingproxy.frontend.common.executor.ExecutorGroupTest;
+import io.shardingsphere.shardingproxy.frontend.mysql.CommandExecutorTest;
 import io.shardingsphere.shardingproxy.frontend.mysql.MySQLFrontendHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -29,8 +31,10 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         FrontendHandlerFactoryTest.class,
         MySQLFrontendHandlerTest.class, 
+        CommandExecutorTest.class, 
         ExecutorGroupTest.class, 
-        ChannelThreadExecutorGroupTest.class
+        ChannelThreadExecutorGroupTest.class, 
+        ChannelExecutorTest.class
 })
 public final class AllFrontendTests {
 }
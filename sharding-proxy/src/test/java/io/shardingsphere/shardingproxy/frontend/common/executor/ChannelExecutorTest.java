@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.frontend.common.executor;
+
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.ConnectionStateHandler;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.ConnectionStatus;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ChannelExecutorTest {
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        setMaxChannelWorkers(ShardingPropertiesConstant.PROXY_FRONTEND_MAX_CHANNEL_WORKERS.getDefaultValue());
+    }
+    
+    private void setMaxChannelWorkers(final String maxChannelWorkers) throws ReflectiveOperationException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PROXY_FRONTEND_MAX_CHANNEL_WORKERS.getKey(), maxChannelWorkers);
+        Field field = GlobalRegistry.getInstance().getClass().getDeclaredField("shardingProperties");
+        field.setAccessible(true);
+        field.set(GlobalRegistry.getInstance(), new ShardingProperties(props));
+    }
+    
+    @Test
+    public void assertExecuteInOrder() throws InterruptedException {
+        ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+        when(stateHandler.getStatus()).thenReturn(ConnectionStatus.RUNNING);
+        ChannelExecutor actual = new ChannelExecutor(ChannelThreadExecutorGroup.getInstance(), stateHandler);
+        final List<Integer> executedCommands = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int command = i;
+            actual.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    executedCommands.add(command);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertThat(executedCommands.get(i), is(i));
+        }
+    }
+    
+    @Test
+    public void assertExecuteInSameThreadWithinTransaction() throws InterruptedException {
+        ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+        when(stateHandler.getStatus()).thenReturn(ConnectionStatus.TRANSACTION);
+        ChannelExecutor actual = new ChannelExecutor(ChannelThreadExecutorGroup.getInstance(), stateHandler);
+        final List<Thread> executedThreads = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final CountDownLatch latch = new CountDownLatch(1);
+            actual.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    executedThreads.add(Thread.currentThread());
+                    latch.countDown();
+                }
+            });
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+        assertThat(executedThreads.get(0), is(executedThreads.get(1)));
+        assertTrue(actual.isBound());
+    }
+    
+    @Test
+    public void assertExecuteConcurrentTransactionsInDifferentThreads() throws InterruptedException {
+        ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+        when(stateHandler.getStatus()).thenReturn(ConnectionStatus.TRANSACTION);
+        ChannelExecutor channelExecutor0 = new ChannelExecutor(ChannelThreadExecutorGroup.getInstance(), stateHandler);
+        ChannelExecutor channelExecutor1 = new ChannelExecutor(ChannelThreadExecutorGroup.getInstance(), stateHandler);
+        Thread thread0 = getExecutedThread(channelExecutor0);
+        Thread thread1 = getExecutedThread(channelExecutor1);
+        assertThat(thread0, not(thread1));
+        assertThat(getExecutedThread(channelExecutor0), is(thread0));
+        assertThat(getExecutedThread(channelExecutor1), is(thread1));
+        channelExecutor0.close();
+        channelExecutor1.close();
+    }
+    
+    @Test
+    public void assertUnbindAfterTransactionFinished() throws InterruptedException {
+        ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+        when(stateHandler.getStatus()).thenReturn(ConnectionStatus.TRANSACTION);
+        ChannelExecutor actual = new ChannelExecutor(ChannelThreadExecutorGroup.getInstance(), stateHandler);
+        Thread thread = getExecutedThread(actual);
+        when(stateHandler.getStatus()).thenReturn(ConnectionStatus.TERMINATED);
+        assertThat(getExecutedThread(actual), is(thread));
+        long timeoutMillis = System.currentTimeMillis() + 10000L;
+        while (actual.isBound() && System.currentTimeMillis() < timeoutMillis) {
+            Thread.sleep(10L);
+        }
+        assertFalse(actual.isBound());
+    }
+    
+    @Test
+    public void assertWaitForWorkerWhenAllWorkersBound() throws ReflectiveOperationException, InterruptedException {
+        setMaxChannelWorkers("1");
+        Constructor<ChannelThreadExecutorGroup> constructor = ChannelThreadExecutorGroup.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        ChannelThreadExecutorGroup executorGroup = constructor.newInstance();
+        ConnectionStateHandler transactionStateHandler = mock(ConnectionStateHandler.class);
+        when(transactionStateHandler.getStatus()).thenReturn(ConnectionStatus.TRANSACTION);
+        ChannelExecutor channelExecutor0 = new ChannelExecutor(executorGroup, transactionStateHandler);
+        ChannelExecutor channelExecutor1 = new ChannelExecutor(executorGroup, mock(ConnectionStateHandler.class));
+        Thread thread0 = getExecutedThread(channelExecutor0);
+        final List<Thread> executedThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        channelExecutor1.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                executedThreads.add(Thread.currentThread());
+                latch.countDown();
+            }
+        });
+        assertFalse(latch.await(100L, TimeUnit.MILLISECONDS));
+        assertFalse(channelExecutor1.isBound());
+        channelExecutor0.close();
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(executedThreads.get(0), is(thread0));
+        assertFalse(channelExecutor0.isBound());
+    }
+    
+    private Thread getExecutedThread(final ChannelExecutor channelExecutor) throws InterruptedException {
+        final List<Thread> executedThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        channelExecutor.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                executedThreads.add(Thread.currentThread());
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        return executedThreads.get(0);
+    }
+}
@@ -18,6 +18,7 @@
 package io.shardingsphere.shardingproxy.frontend.common.executor;
 
 import io.netty.channel.ChannelId;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.ConnectionStateHandler;
 import org.junit.Test;
 
 import static org.junit.Assert.assertNotNull;
@@ -29,7 +30,7 @@ public final class ChannelThreadExecutorGroupTest {
     @Test
     public void assertRegister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, mock(ConnectionStateHandler.class));
         assertNotNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
     }
@@ -37,7 +38,7 @@ public final class ChannelThreadExecutorGroupTest {
     @Test
     public void assertUnregister() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        ChannelThreadExecutorGroup.getInstance().register(channelId, mock(ConnectionStateHandler.class));
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
         assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
     }
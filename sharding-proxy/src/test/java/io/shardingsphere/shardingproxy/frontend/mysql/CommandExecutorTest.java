@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.shardingproxy.frontend.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.shardingsphere.core.constant.properties.ShardingProperties;
+import io.shardingsphere.shardingproxy.backend.jdbc.connection.BackendConnection;
+import io.shardingsphere.shardingproxy.frontend.common.FrontendHandler;
+import io.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import io.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryCommandPacket;
+import io.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import io.shardingsphere.spi.root.RootInvokeHook;
+import lombok.SneakyThrows;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CommandExecutorTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private FrontendHandler frontendHandler;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private QueryCommandPacket queryCommandPacket;
+    
+    @Mock
+    private RootInvokeHook rootInvokeHook;
+    
+    private CommandExecutor commandExecutor;
+    
+    @BeforeClass
+    @SneakyThrows
+    public static void beforeClass() {
+        Field field = GlobalRegistry.getInstance().getClass().getDeclaredField("shardingProperties");
+        field.setAccessible(true);
+        field.set(GlobalRegistry.getInstance(), new ShardingProperties(new Properties()));
+    }
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        when(context.channel()).thenReturn(channel);
+        commandExecutor = new CommandExecutor(context, mock(ByteBuf.class), frontendHandler);
+        Field field = CommandExecutor.class.getDeclaredField("queryCommandPacket");
+        field.setAccessible(true);
+        field.set(commandExecutor, queryCommandPacket);
+        Field hookField = CommandExecutor.class.getDeclaredField("rootInvokeHook");
+        hookField.setAccessible(true);
+        hookField.set(commandExecutor, rootInvokeHook);
+    }
+    
+    @Test
+    public void assertSuspendWhenChannelIsNotWritable() throws SQLException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(false);
+        when(frontendHandler.suspendUntilWritable(channel, commandExecutor)).thenReturn(true);
+        commandExecutor.run();
+        verify(context).flush();
+        verify(queryCommandPacket, never()).next();
+        verify(frontendHandler, never()).getBackendConnection();
+        verify(rootInvokeHook).start();
+        verify(rootInvokeHook).finish(0);
+    }
+    
+    @Test
+    public void assertGoOnWhenChannelBecomesWritableDuringSuspend() throws SQLException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(false);
+        when(frontendHandler.suspendUntilWritable(channel, commandExecutor)).thenReturn(false);
+        when(queryCommandPacket.next()).thenReturn(false);
+        when(frontendHandler.getBackendConnection()).thenReturn(backendConnection);
+        commandExecutor.run();
+        verify(context).writeAndFlush(isA(EofPacket.class));
+        verify(backendConnection).close();
+    }
+    
+    @Test
+    public void assertResumeWhenChannelIsWritable() throws SQLException {
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
+        DatabasePacket resultValue = mock(DatabasePacket.class);
+        when(resultValue.getSequenceId()).thenReturn(3);
+        when(queryCommandPacket.next()).thenReturn(true, false);
+        when(queryCommandPacket.getResultValue()).thenReturn(resultValue);
+        when(frontendHandler.getBackendConnection()).thenReturn(backendConnection);
+        commandExecutor.run();
+        verify(context).write(resultValue);
+        verify(context).writeAndFlush(isA(EofPacket.class));
+        verify(backendConnection).close();
+    }
+    
+    @Test
+    public void assertResumeWhenChannelIsInactive() throws SQLException {
+        when(channel.isActive()).thenReturn(false);
+        when(frontendHandler.getBackendConnection()).thenReturn(backendConnection);
+        commandExecutor.run();
+        verify(queryCommandPacket, never()).next();
+        verify(backendConnection).close();
+    }
+}
@@ -37,12 +37,20 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 import java.lang.reflect.Field;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -115,6 +123,91 @@ public final class MySQLFrontendHandlerTest {
         mysqlFrontendHandler.executeCommand(context, mock(ByteBuf.class));
     }
     
+    @Test
+    public void assertSuspendUntilWritableWhenChannelIsNotWritable() {
+        Channel channel = mock(Channel.class);
+        when(channel.isWritable()).thenReturn(false);
+        assertTrue(mysqlFrontendHandler.suspendUntilWritable(channel, mock(CommandExecutor.class)));
+    }
+    
+    @Test
+    public void assertSuspendUntilWritableWhenChannelBecomesWritable() {
+        Channel channel = mock(Channel.class);
+        when(channel.isWritable()).thenReturn(true);
+        when(context.channel()).thenReturn(channel);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        assertFalse(mysqlFrontendHandler.suspendUntilWritable(channel, commandExecutor));
+        mysqlFrontendHandler.channelWritabilityChanged(context);
+        verify(commandExecutor, never()).run();
+        verify(context).fireChannelWritabilityChanged();
+    }
+    
+    @Test
+    public void assertResumeWhenChannelBecomesWritable() {
+        Channel channel = mockChannel();
+        when(channel.isWritable()).thenReturn(false, true);
+        when(context.channel()).thenReturn(channel);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        assertTrue(mysqlFrontendHandler.suspendUntilWritable(channel, commandExecutor));
+        mysqlFrontendHandler.channelWritabilityChanged(context);
+        mysqlFrontendHandler.channelWritabilityChanged(context);
+        verify(commandExecutor, timeout(1000)).run();
+        verify(commandExecutor, after(100).times(1)).run();
+    }
+    
+    @Test
+    public void assertNotResumeWhenChannelIsStillNotWritable() {
+        Channel channel = mock(Channel.class);
+        when(channel.isWritable()).thenReturn(false);
+        when(context.channel()).thenReturn(channel);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        assertTrue(mysqlFrontendHandler.suspendUntilWritable(channel, commandExecutor));
+        mysqlFrontendHandler.channelWritabilityChanged(context);
+        verify(commandExecutor, after(100).never()).run();
+    }
+    
+    @Test
+    public void assertResumeWhenChannelWritabilityChangedDuringSuspend() {
+        Channel channel = mockChannel();
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenAnswer(new Answer<Boolean>() {
+            
+            private boolean writabilityChanged;
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                if (!writabilityChanged) {
+                    writabilityChanged = true;
+                    mysqlFrontendHandler.channelWritabilityChanged(context);
+                }
+                return true;
+            }
+        });
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        assertTrue(mysqlFrontendHandler.suspendUntilWritable(channel, commandExecutor));
+        verify(commandExecutor, timeout(1000)).run();
+        mysqlFrontendHandler.channelWritabilityChanged(context);
+        verify(commandExecutor, after(100).times(1)).run();
+    }
+    
+    @Test
+    public void assertResumeWhenChannelInactive() {
+        Channel channel = mockChannel();
+        when(channel.isWritable()).thenReturn(false);
+        when(context.channel()).thenReturn(channel);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        assertTrue(mysqlFrontendHandler.suspendUntilWritable(channel, commandExecutor));
+        mysqlFrontendHandler.channelInactive(context);
+        verify(commandExecutor, timeout(1000)).run();
+        verify(context).fireChannelInactive();
+    }
+    
+    private Channel mockChannel() {
+        Channel result = mock(Channel.class);
+        when(result.id()).thenReturn(mock(ChannelId.class));
+        return result;
+    }
+    
     private void setAuthentication(final Object value) throws ReflectiveOperationException {
         Field field = GlobalRegistry.class.getDeclaredField("authentication");
         field.setAccessible(true);